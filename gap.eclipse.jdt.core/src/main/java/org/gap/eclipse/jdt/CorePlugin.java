@@ -2,10 +2,22 @@ package org.gap.eclipse.jdt;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.gap.eclipse.jdt.common.CacheRegistry;
 import org.gap.eclipse.jdt.common.Images;
+import org.gap.eclipse.jdt.symbol.MemberNameIndex;
+import org.gap.eclipse.jdt.symbol.PartitionedSearch;
+import org.gap.eclipse.jdt.symbol.SymbolQueryService;
+import org.gap.eclipse.jdt.symbol.TypeNameCache;
+import org.gap.eclipse.jdt.types.EnumImplementorIndex;
+import org.gap.eclipse.jdt.types.EnumLiteralCache;
+import org.gap.eclipse.jdt.types.FunctionalDescriptorCache;
+import org.gap.eclipse.jdt.types.InBuiltSuggestionCache;
+import org.gap.eclipse.jdt.types.MethodShapeCache;
 import org.osgi.framework.BundleContext;
 
 /**
@@ -20,6 +32,26 @@ public class CorePlugin extends AbstractUIPlugin {
 	private static CorePlugin plugin;
 	
 	boolean started;
+
+	private CacheRegistry cacheRegistry;
+
+	private EnumLiteralCache enumLiteralCache;
+
+	private EnumImplementorIndex enumImplementorIndex;
+
+	private FunctionalDescriptorCache functionalDescriptorCache;
+
+	private MethodShapeCache methodShapeCache;
+
+	private InBuiltSuggestionCache inBuiltSuggestionCache;
+
+	private MemberNameIndex memberNameIndex;
+	private PartitionedSearch partitionedSearch;
+
+	private TypeNameCache typeNameCache;
+
+	private SymbolQueryService symbolQueryService;
+
 	/**
 	 * The constructor
 	 */
@@ -33,6 +65,33 @@ public class CorePlugin extends AbstractUIPlugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin  = this;
+		cacheRegistry = new CacheRegistry();
+		enumLiteralCache = new EnumLiteralCache();
+		enumImplementorIndex = new EnumImplementorIndex(enumLiteralCache);
+		JavaCore.addElementChangedListener(enumLiteralCache, ElementChangedEvent.POST_CHANGE);
+		JavaCore.addElementChangedListener(enumImplementorIndex, ElementChangedEvent.POST_CHANGE);
+		functionalDescriptorCache = new FunctionalDescriptorCache();
+		JavaCore.addElementChangedListener(functionalDescriptorCache, ElementChangedEvent.POST_CHANGE);
+		methodShapeCache = new MethodShapeCache();
+		JavaCore.addElementChangedListener(methodShapeCache, ElementChangedEvent.POST_CHANGE);
+		inBuiltSuggestionCache = new InBuiltSuggestionCache(methodShapeCache);
+		JavaCore.addElementChangedListener(inBuiltSuggestionCache, ElementChangedEvent.POST_CHANGE);
+		getPreferenceStore().addPropertyChangeListener(inBuiltSuggestionCache);
+		memberNameIndex = new MemberNameIndex();
+		JavaCore.addElementChangedListener(memberNameIndex, ElementChangedEvent.POST_CHANGE);
+		typeNameCache = new TypeNameCache();
+		JavaCore.addElementChangedListener(typeNameCache, ElementChangedEvent.POST_CHANGE);
+		partitionedSearch = new PartitionedSearch();
+		JavaCore.addElementChangedListener(partitionedSearch, ElementChangedEvent.POST_CHANGE);
+		symbolQueryService = new SymbolQueryService(memberNameIndex, typeNameCache, partitionedSearch);
+		cacheRegistry.register(enumLiteralCache);
+		cacheRegistry.register(enumImplementorIndex);
+		cacheRegistry.register(functionalDescriptorCache);
+		cacheRegistry.register(methodShapeCache);
+		cacheRegistry.register(inBuiltSuggestionCache);
+		cacheRegistry.register(memberNameIndex);
+		cacheRegistry.register(typeNameCache);
+		cacheRegistry.start();
 		started = true;
 	}
 
@@ -41,6 +100,18 @@ public class CorePlugin extends AbstractUIPlugin {
 	 * @see org.eclipse.ui.plugin.AbstractUIPlugin#stop(org.osgi.framework.BundleContext)
 	 */
 	public void stop(BundleContext context) throws Exception {
+		cacheRegistry.stop();
+		JavaCore.removeElementChangedListener(partitionedSearch);
+		partitionedSearch.dispose();
+		JavaCore.removeElementChangedListener(typeNameCache);
+		JavaCore.removeElementChangedListener(memberNameIndex);
+		getPreferenceStore().removePropertyChangeListener(inBuiltSuggestionCache);
+		JavaCore.removeElementChangedListener(inBuiltSuggestionCache);
+		JavaCore.removeElementChangedListener(methodShapeCache);
+		JavaCore.removeElementChangedListener(functionalDescriptorCache);
+		JavaCore.removeElementChangedListener(enumImplementorIndex);
+		JavaCore.removeElementChangedListener(enumLiteralCache);
+		cacheRegistry.clearAll();
 		plugin = null;
 		started = false;
 		super.stop(context);
@@ -55,6 +126,42 @@ public class CorePlugin extends AbstractUIPlugin {
 		return plugin;
 	}
 
+	public CacheRegistry getCacheRegistry() {
+		return cacheRegistry;
+	}
+
+	public EnumLiteralCache getEnumLiteralCache() {
+		return enumLiteralCache;
+	}
+
+	public EnumImplementorIndex getEnumImplementorIndex() {
+		return enumImplementorIndex;
+	}
+
+	public FunctionalDescriptorCache getFunctionalDescriptorCache() {
+		return functionalDescriptorCache;
+	}
+
+	public MethodShapeCache getMethodShapeCache() {
+		return methodShapeCache;
+	}
+
+	public InBuiltSuggestionCache getInBuiltSuggestionCache() {
+		return inBuiltSuggestionCache;
+	}
+
+	public MemberNameIndex getMemberNameIndex() {
+		return memberNameIndex;
+	}
+
+	public TypeNameCache getTypeNameCache() {
+		return typeNameCache;
+	}
+
+	public SymbolQueryService getSymbolQueryService() {
+		return symbolQueryService;
+	}
+
 	/**
 	 * Returns an image descriptor for the image file at the given
 	 * plug-in relative path
@@ -4,8 +4,13 @@ import org.eclipse.osgi.util.NLS;
 
 public class Messages extends NLS {
 	private static final String BUNDLE_NAME = "org.gap.eclipse.jdt.messages"; //$NON-NLS-1$
+	public static String CacheRegistry_JobName;
+	public static String CacheStatus_Title;
+	public static String CacheStatus_Total;
+	public static String EnumImplementorIndex_JobName;
 	public static String Hyperlink_OpenReference;
 	public static String Hyperlink_SearchDescription;
+	public static String MemberNameIndex_JobName;
 	public static String SearchJobTracker_JobName;
 	static {
 		// initialize resource bundle
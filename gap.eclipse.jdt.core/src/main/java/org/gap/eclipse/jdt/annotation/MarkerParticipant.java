@@ -1,14 +1,17 @@
 package org.gap.eclipse.jdt.annotation;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.compiler.ReconcileContext;
@@ -19,13 +22,37 @@ public class MarkerParticipant extends CompilationParticipant {
 	public void reconcile(ReconcileContext context) {
 		if (context.getASTLevel() != ICompilationUnit.NO_AST) {
 			try {
-				context.getAST(context.getASTLevel()).accept(new RecursiveASTVistor(context));
-			} catch (JavaModelException e) {
+				final IResource resource = context.getWorkingCopy().getResource();
+				if (resource == null || !resource.exists()) {
+					return;
+				}
+				final RecursiveASTVistor visitor = new RecursiveASTVistor();
+				context.getAST(context.getASTLevel()).accept(visitor);
+				final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+				workspace.run(monitor -> updateMarkers(resource, visitor.getMarkers()),
+						workspace.getRuleFactory().markerRule(resource), IWorkspace.AVOID_UPDATE, null);
+			} catch (CoreException e) {
 				CorePlugin.getDefault().logError(e.getMessage(), e);
 			}
 		}
 	}
 
+	/**
+	 * Deletes the markers which are no longer found and creates only the new ones,
+	 * so unchanged markers cause no marker deltas.
+	 */
+	private void updateMarkers(IResource resource, Set<RecursionMarker> markers) throws CoreException {
+		final Set<RecursionMarker> missing = new HashSet<>(markers);
+		for (IMarker marker : resource.findMarkers(Markers.MARKER_ID, false, IResource.DEPTH_ZERO)) {
+			if (!missing.remove(RecursionMarker.of(marker))) {
+				marker.delete();
+			}
+		}
+		for (RecursionMarker marker : missing) {
+			marker.create(resource);
+		}
+	}
+
 	@Override
 	public boolean isActive(IJavaProject project) {
 		return true;
@@ -0,0 +1,48 @@
+package org.gap.eclipse.jdt.annotation;
+
+import java.util.Objects;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Attributes of a recursion marker, compared by value so the markers found on
+ * reconcile can be diffed against the existing markers of the resource.
+ */
+final class RecursionMarker {
+	private final int start;
+	private final int end;
+	private final String message;
+
+	RecursionMarker(int start, int end, String message) {
+		this.start = start;
+		this.end = end;
+		this.message = message;
+	}
+
+	static RecursionMarker of(IMarker marker) {
+		return new RecursionMarker(marker.getAttribute(IMarker.CHAR_START, -1),
+				marker.getAttribute(IMarker.CHAR_END, -1), marker.getAttribute(IMarker.MESSAGE, ""));
+	}
+
+	void create(IResource resource) throws CoreException {
+		IMarker marker = resource.createMarker(Markers.MARKER_ID);
+		marker.setAttributes(new String[] { IMarker.CHAR_START, IMarker.CHAR_END, IMarker.MESSAGE },
+				new Object[] { start, end, message });
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(start, end, message);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof RecursionMarker)) {
+			return false;
+		}
+		RecursionMarker other = (RecursionMarker) obj;
+		return start == other.start && end == other.end && message.equals(other.message);
+	}
+}
@@ -1,23 +1,23 @@
 package org.gap.eclipse.jdt.annotation;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
-import org.eclipse.core.resources.IMarker;
-import org.eclipse.core.resources.IResource;
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.core.compiler.ReconcileContext;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.MethodInvocation;
-import org.gap.eclipse.jdt.CorePlugin;
 
 class RecursiveASTVistor extends ASTVisitor {
 	private Optional<IMethodBinding> currentMethod = Optional.empty();
-	private ReconcileContext context;
+	private final Set<RecursionMarker> markers = new HashSet<>();
 
-	public RecursiveASTVistor(ReconcileContext context) {
-		this.context = context;
+	/**
+	 * Returns the recursion markers the visited unit should have.
+	 */
+	public Set<RecursionMarker> getMarkers() {
+		return markers;
 	}
 
 	@Override
@@ -37,21 +37,11 @@ class RecursiveASTVistor extends ASTVisitor {
 		if (currentMethod.isPresent()) {
 			IMethodBinding binding = node.resolveMethodBinding();
 			if ((binding != null) && binding.getMethodDeclaration().equals(currentMethod.get().getMethodDeclaration())) {
-				createRecursiveMarker(node, context.getWorkingCopy().getResource());
+				markers.add(new RecursionMarker(node.getStartPosition(), node.getStartPosition() + node.getLength(),
+						"Recursion of method " + node.getName() + "()"));
 			}
 		}
 
 		return super.visit(node);
 	}
-
-	private void createRecursiveMarker(MethodInvocation node, IResource resource) {
-		try {
-			IMarker marker = resource.createMarker(Markers.MARKER_ID);
-			marker.setAttribute(IMarker.CHAR_START, node.getStartPosition());
-			marker.setAttribute(IMarker.CHAR_END, node.getStartPosition() + node.getLength());
-			marker.setAttribute(IMarker.MESSAGE, "Recursion of method " + node.getName() + "()");
-		} catch (CoreException e) {
-			CorePlugin.getDefault().logError(e.getMessage(), e);
-		}
-	}
 }
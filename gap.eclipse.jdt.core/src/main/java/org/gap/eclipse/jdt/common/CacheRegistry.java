@@ -0,0 +1,165 @@
+package org.gap.eclipse.jdt.common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.gap.eclipse.jdt.CorePlugin;
+import org.gap.eclipse.jdt.Messages;
+
+/**
+ * Registry of all plugin caches. The registry keeps the combined footprint of
+ * the budgeted caches within a byte budget by periodically trimming the largest
+ * caches, and empties all caches when a heap memory pool is still above its
+ * collection usage threshold after a garbage collection.
+ * <p>
+ * The budget in bytes is configured with the preference {@link #PREF_BUDGET} or
+ * the system property <code>org.gap.eclipse.jdt.cache.budget</code>, the
+ * threshold in percent of the pool maximum with
+ * <code>org.gap.eclipse.jdt.cache.lowMemoryPercent</code>.
+ * </p>
+ */
+public final class CacheRegistry {
+	public static final String PREF_BUDGET = "cache.budget";
+
+	private static final long BUDGET = Long.getLong("org.gap.eclipse.jdt.cache.budget", 64L * 1024 * 1024);
+
+	private static final int LOW_MEMORY_PERCENT = Integer.getInteger("org.gap.eclipse.jdt.cache.lowMemoryPercent",
+			85);
+
+	private static final long CHECK_INTERVAL = 30000;
+
+	// caches owned by completion computers are not unregistered, so they are held weakly.
+	private final Set<ManagedCache> caches = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private final Map<MemoryPoolMXBean, Long> thresholdPools = new HashMap<>();
+
+	private final NotificationListener lowMemoryListener = this::lowMemory;
+
+	private final Job budgetJob = Job.createSystem(Messages.CacheRegistry_JobName, monitor -> {
+		enforceBudget();
+		scheduleBudgetCheck();
+	});
+
+	private volatile boolean running;
+
+	public void register(ManagedCache cache) {
+		caches.add(cache);
+	}
+
+	public void unregister(ManagedCache cache) {
+		caches.remove(cache);
+	}
+
+	public long getBudget() {
+		final long budget = CorePlugin.getDefault().getPreferenceStore().getLong(PREF_BUDGET);
+		return budget > 0 ? budget : BUDGET;
+	}
+
+	public void start() {
+		running = true;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			final long max = pool.getUsage().getMax();
+			// keep thresholds which were set by others, they notify us as well.
+			if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && max > 0
+					&& pool.getCollectionUsageThreshold() == 0) {
+				final long threshold = max / 100 * LOW_MEMORY_PERCENT;
+				pool.setCollectionUsageThreshold(threshold);
+				thresholdPools.put(pool, threshold);
+			}
+		}
+		((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(lowMemoryListener, null,
+				null);
+		scheduleBudgetCheck();
+	}
+
+	public void stop() {
+		running = false;
+		budgetJob.cancel();
+		try {
+			((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(lowMemoryListener);
+		} catch (ListenerNotFoundException e) {
+			// never added.
+		}
+		thresholdPools.forEach((pool, threshold) -> {
+			if (pool.getCollectionUsageThreshold() == threshold) {
+				pool.setCollectionUsageThreshold(0);
+			}
+		});
+		thresholdPools.clear();
+	}
+
+	public void clearAll() {
+		snapshot().forEach(ManagedCache::clear);
+	}
+
+	/**
+	 * Returns the estimated footprint of each registered cache in bytes.
+	 */
+	public Map<String, Long> getFootprints() {
+		final Map<String, Long> footprints = new LinkedHashMap<>();
+		for (ManagedCache cache : snapshot()) {
+			footprints.merge(cache.getName(), cache.getFootprint(), Long::sum);
+		}
+		return footprints;
+	}
+
+	private List<ManagedCache> snapshot() {
+		synchronized (caches) {
+			return new ArrayList<>(caches);
+		}
+	}
+
+	private void scheduleBudgetCheck() {
+		if (running) {
+			budgetJob.schedule(CHECK_INTERVAL);
+		}
+	}
+
+	private void enforceBudget() {
+		final List<Map.Entry<ManagedCache, Long>> footprints = new ArrayList<>();
+		long total = 0;
+		for (ManagedCache cache : snapshot()) {
+			if (cache.isBudgeted()) {
+				final long footprint = cache.getFootprint();
+				footprints.add(Map.entry(cache, footprint));
+				total += footprint;
+			}
+		}
+		final long budget = getBudget();
+		if (total <= budget) {
+			return;
+		}
+
+		footprints.sort(Map.Entry.<ManagedCache, Long>comparingByValue(Comparator.reverseOrder()));
+		for (Map.Entry<ManagedCache, Long> entry : footprints) {
+			if (total <= budget) {
+				break;
+			}
+			total -= entry.getKey().trim(total - budget);
+		}
+	}
+
+	private void lowMemory(Notification notification, Object handback) {
+		if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+			CorePlugin.getDefault().logInfo("Heap collection usage threshold exceeded, clearing plugin caches");
+			clearAll();
+		}
+	}
+}
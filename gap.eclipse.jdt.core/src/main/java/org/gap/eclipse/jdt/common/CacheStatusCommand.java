@@ -0,0 +1,36 @@
+package org.gap.eclipse.jdt.common;
+
+import java.util.Map;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.ui.handlers.HandlerUtil;
+import org.gap.eclipse.jdt.CorePlugin;
+import org.gap.eclipse.jdt.Messages;
+
+public class CacheStatusCommand extends AbstractHandler {
+
+	@Override
+	public Object execute(ExecutionEvent event) throws ExecutionException {
+		final CacheRegistry registry = CorePlugin.getDefault().getCacheRegistry();
+		final StringBuilder status = new StringBuilder();
+		long total = 0;
+		for (Map.Entry<String, Long> footprint : registry.getFootprints().entrySet()) {
+			status.append(footprint.getKey()).append(": ").append(toKiloBytes(footprint.getValue())).append('\n');
+			total += footprint.getValue();
+		}
+		status.append('\n')
+				.append(NLS.bind(Messages.CacheStatus_Total, toKiloBytes(total), toKiloBytes(registry.getBudget())));
+
+		MessageDialog.openInformation(HandlerUtil.getActiveShell(event), Messages.CacheStatus_Title,
+				status.toString());
+		return null;
+	}
+
+	private static String toKiloBytes(long bytes) {
+		return String.format("%,d KB", bytes / 1024);
+	}
+}
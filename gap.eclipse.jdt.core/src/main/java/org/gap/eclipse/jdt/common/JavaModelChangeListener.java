@@ -0,0 +1,98 @@
+package org.gap.eclipse.jdt.common;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+
+/**
+ * Base listener for caches which are kept current from Java model deltas. The
+ * delta is reduced to three events, a project whose classpath has changed, a
+ * removed package and a primary compilation unit which was added, changed or
+ * removed.
+ */
+public abstract class JavaModelChangeListener implements IElementChangedListener {
+
+	@Override
+	public final void elementChanged(ElementChangedEvent event) {
+		if (isInterested()) {
+			processDelta(event.getDelta());
+		}
+	}
+
+	/**
+	 * Returns <code>false</code> to skip walking the delta, for example when
+	 * nothing is cached yet.
+	 */
+	protected boolean isInterested() {
+		return true;
+	}
+
+	/**
+	 * Called when the project is added, removed, opened, closed or its classpath
+	 * has changed.
+	 */
+	protected abstract void projectChanged(IJavaProject project);
+
+	/**
+	 * Called when a primary compilation unit is added, changed or removed.
+	 */
+	protected abstract void compilationUnitChanged(ICompilationUnit unit, boolean exists);
+
+	/**
+	 * Called when a package is removed. The delta of a removed package usually has
+	 * no children, so its compilation units are not reported separately.
+	 */
+	protected void packageFragmentRemoved(IPackageFragment fragment) {
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		final IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				processChildren(delta);
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() == IJavaElementDelta.REMOVED) {
+					packageFragmentRemoved((IPackageFragment) element);
+				}
+				processChildren(delta);
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_OPENED
+						| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED
+						| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					projectChanged((IJavaProject) element);
+				} else {
+					processChildren(delta);
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if ((delta.getFlags() & (IJavaElementDelta.F_ADDED_TO_CLASSPATH
+						| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					projectChanged(element.getJavaProject());
+				} else {
+					processChildren(delta);
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit = (ICompilationUnit) element;
+				// ignore private working copies, only the primary reflects the project state.
+				if (unit.equals(unit.getPrimary())) {
+					compilationUnitChanged(unit, delta.getKind() != IJavaElementDelta.REMOVED);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void processChildren(IJavaElementDelta delta) {
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+}
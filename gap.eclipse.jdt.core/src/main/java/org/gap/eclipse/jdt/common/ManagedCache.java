@@ -0,0 +1,56 @@
+package org.gap.eclipse.jdt.common;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache registered in the {@link CacheRegistry}. It reports its estimated
+ * footprint, gives up entries when the plugin caches run over their memory
+ * budget and is emptied when the heap runs low.
+ */
+public interface ManagedCache {
+
+	/**
+	 * Returns the name shown in the cache status.
+	 */
+	String getName();
+
+	/**
+	 * Returns the estimated number of bytes retained by the cache.
+	 */
+	long getFootprint();
+
+	/**
+	 * Evicts entries until at least the given number of bytes are released, or the
+	 * cache is empty, and returns the number of released bytes.
+	 */
+	default long trim(long bytes) {
+		final long footprint = getFootprint();
+		clear();
+		return footprint;
+	}
+
+	/**
+	 * Returns <code>false</code> for indexes which are expensive to rebuild. They
+	 * do not count against the budget and are only emptied when the heap runs low.
+	 */
+	default boolean isBudgeted() {
+		return true;
+	}
+
+	void clear();
+
+	/**
+	 * Removes entries of the map in iteration order until at least the given
+	 * number of bytes are released, and returns the number of released bytes.
+	 */
+	static <K, V> long evict(Map<K, V> map, ToLongFunction<Map.Entry<K, V>> weigher, long bytes) {
+		long released = 0;
+		for (Iterator<Map.Entry<K, V>> entries = map.entrySet().iterator(); entries.hasNext() && released < bytes;) {
+			released += weigher.applyAsLong(entries.next());
+			entries.remove();
+		}
+		return released;
+	}
+}
@@ -0,0 +1,241 @@
+package org.gap.eclipse.jdt.common;
+
+import org.eclipse.jdt.core.Signature;
+
+/**
+ * Cursor over the type arguments of a type signature. The cursor only moves
+ * offsets over the original string, so type arguments are inspected and
+ * compared without creating substrings.
+ */
+final class SignatureCursor {
+	private final String signature;
+	private final int argumentsStart;
+	private final int argumentsEnd;
+	private int start;
+	private int end;
+
+	private SignatureCursor(String signature, int argumentsStart, int argumentsEnd) {
+		this.signature = signature;
+		this.argumentsStart = argumentsStart;
+		this.argumentsEnd = argumentsEnd;
+		this.start = -1;
+		this.end = argumentsStart;
+	}
+
+	/**
+	 * Creates a cursor over the same type arguments
+	 * {@link Signature#getTypeArguments(String)} returns, which are the arguments
+	 * of the last type argument group.
+	 */
+	static SignatureCursor typeArguments(String signature) {
+		final int length = signature.length();
+		if (length < 2 || signature.charAt(length - 2) != Signature.C_GENERIC_END) {
+			return new SignatureCursor(signature, 0, 0);
+		}
+
+		int depth = 1;
+		int index = length - 2;
+		while (index > 0 && depth > 0) {
+			switch (signature.charAt(--index)) {
+				case Signature.C_GENERIC_START:
+					depth--;
+					break;
+				case Signature.C_GENERIC_END:
+					depth++;
+					break;
+			}
+		}
+		if (depth > 0) {
+			throw new IllegalArgumentException(signature);
+		}
+		return new SignatureCursor(signature, index + 1, length - 2);
+	}
+
+	/**
+	 * Moves to the next type argument and returns <code>false</code> if there is
+	 * none left.
+	 */
+	boolean next() {
+		if (end >= argumentsEnd) {
+			return false;
+		}
+		start = end;
+		end = scanTypeSignature(signature, start);
+		return true;
+	}
+
+	int count() {
+		int count = 0;
+		for (int index = argumentsStart; index < argumentsEnd; index = scanTypeSignature(signature, index)) {
+			count++;
+		}
+		return count;
+	}
+
+	char first() {
+		return signature.charAt(start);
+	}
+
+	/**
+	 * Returns <code>true</code> if the current argument equals the argument of the
+	 * other cursor, ignoring the given number of leading characters of this
+	 * argument.
+	 */
+	boolean argumentEquals(int skip, SignatureCursor other) {
+		return regionEquals(signature, start + skip, end, other.signature, other.start, other.end);
+	}
+
+	/**
+	 * Returns <code>true</code> if {@link Signature#getSignatureQualifier(String)}
+	 * of the current argument without the given number of leading characters is
+	 * not empty.
+	 */
+	boolean hasQualifier(int skip) {
+		for (int index = start + skip; index < end; index++) {
+			switch (signature.charAt(index)) {
+				case Signature.C_DOT:
+					return true;
+				case Signature.C_GENERIC_START:
+				case Signature.C_DOLLAR:
+					return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the erasures of both signatures as
+	 * {@link Signature#getTypeErasure(String)} would create them.
+	 */
+	static boolean erasureEquals(String left, String right) {
+		int l = 0;
+		int r = 0;
+		while (true) {
+			l = skipTypeArguments(left, l);
+			r = skipTypeArguments(right, r);
+			if (l == left.length() || r == right.length()) {
+				return l == left.length() && r == right.length();
+			}
+			if (left.charAt(l++) != right.charAt(r++)) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of type parameters of a parameterized type name such as
+	 * <code>java.util.Map&lt;K, V&gt;</code>. Parameters of all top level groups are
+	 * counted.
+	 */
+	static int countTypeParameters(String typeName) {
+		int count = 0;
+		int depth = 0;
+		for (int index = 0; index < typeName.length(); index++) {
+			switch (typeName.charAt(index)) {
+				case Signature.C_GENERIC_START:
+					if (depth++ == 0) {
+						count++;
+					}
+					break;
+				case Signature.C_GENERIC_END:
+					depth--;
+					break;
+				case ',':
+					if (depth == 1) {
+						count++;
+					}
+					break;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the offset of the simple type name of a class type signature, which
+	 * is the start of the last segment not qualified by a parameterized type.
+	 */
+	static int simpleNameStart(String signature) {
+		int nameStart = 1;
+		int depth = 0;
+		for (int index = 1; index < signature.length(); index++) {
+			final char c = signature.charAt(index);
+			if (c == Signature.C_GENERIC_START) {
+				depth++;
+			} else if (c == Signature.C_GENERIC_END) {
+				depth--;
+			} else if (depth == 0 && c == Signature.C_DOT && signature.charAt(index - 1) != Signature.C_GENERIC_END) {
+				nameStart = index + 1;
+			}
+		}
+		return nameStart;
+	}
+
+	/**
+	 * Returns the offset after the simple type name starting at the given offset,
+	 * excluding its type arguments.
+	 */
+	static int simpleNameEnd(String signature, int nameStart) {
+		int nameEnd = nameStart;
+		while (nameEnd < signature.length() && signature.charAt(nameEnd) != Signature.C_GENERIC_START
+				&& signature.charAt(nameEnd) != Signature.C_NAME_END) {
+			nameEnd++;
+		}
+		return nameEnd;
+	}
+
+	private static int skipTypeArguments(String signature, int index) {
+		while (index < signature.length() && signature.charAt(index) == Signature.C_GENERIC_START) {
+			int depth = 0;
+			do {
+				final char c = signature.charAt(index++);
+				if (c == Signature.C_GENERIC_START) {
+					depth++;
+				} else if (c == Signature.C_GENERIC_END) {
+					depth--;
+				}
+			} while (depth > 0 && index < signature.length());
+
+			if (depth > 0) {
+				throw new IllegalArgumentException(signature);
+			}
+		}
+		return index;
+	}
+
+	private static boolean regionEquals(String left, int leftStart, int leftEnd, String right, int rightStart,
+			int rightEnd) {
+		final int length = leftEnd - leftStart;
+		return length == rightEnd - rightStart && left.regionMatches(leftStart, right, rightStart, length);
+	}
+
+	/**
+	 * Returns the offset after the type signature starting at the given offset.
+	 */
+	private static int scanTypeSignature(String signature, int start) {
+		switch (signature.charAt(start)) {
+			case Signature.C_ARRAY:
+			case Signature.C_EXTENDS:
+			case Signature.C_SUPER:
+			case Signature.C_CAPTURE:
+				return scanTypeSignature(signature, start + 1);
+			case Signature.C_RESOLVED:
+			case Signature.C_UNRESOLVED:
+			case Signature.C_TYPE_VARIABLE:
+				int depth = 0;
+				for (int index = start + 1; index < signature.length(); index++) {
+					final char c = signature.charAt(index);
+					if (c == Signature.C_GENERIC_START) {
+						depth++;
+					} else if (c == Signature.C_GENERIC_END) {
+						depth--;
+					} else if (c == Signature.C_NAME_END && depth == 0) {
+						return index + 1;
+					}
+				}
+				throw new IllegalArgumentException(signature);
+			default:
+				// primitive types and the unbounded wildcard.
+				return start + 1;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package org.gap.eclipse.jdt.common;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.jdt.core.Signature;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Pool of canonical signatures and type names. Strings are weakly interned, so
+ * equal signatures found in different places share one instance which can be
+ * compared by identity. Values derived from a signature, like its erasure, are
+ * computed once per canonical signature.
+ */
+public final class SignaturePool {
+	private static final Interner<String> CANONICAL = Interners.newWeakInterner();
+
+	private static final UnaryOperator<String> ERASURE = memoize(Signature::getTypeErasure);
+
+	private static final UnaryOperator<String> TYPE_SIGNATURE = memoize(n -> Signature.createTypeSignature(n, true));
+
+	private SignaturePool() {
+	}
+
+	public static String intern(String value) {
+		return value == null ? null : CANONICAL.intern(value);
+	}
+
+	/**
+	 * Returns the canonical erasure of the given signature or parameterized type
+	 * name.
+	 */
+	public static String erasure(String signature) {
+		return ERASURE.apply(signature);
+	}
+
+	/**
+	 * Returns the canonical resolved type signature of the given type name.
+	 */
+	public static String typeSignature(String typeName) {
+		return TYPE_SIGNATURE.apply(typeName);
+	}
+
+	/**
+	 * Returns a function which computes the canonical result of the given
+	 * derivation once per canonical input. Entries are dropped once either the
+	 * input or the result is no longer referenced elsewhere.
+	 */
+	public static UnaryOperator<String> memoize(UnaryOperator<String> derivation) {
+		// weak keys are compared by identity, which holds for canonical strings.
+		final Cache<String, String> derived = CacheBuilder.newBuilder().weakKeys().weakValues().build();
+		return value -> {
+			final String key = intern(value);
+			try {
+				return derived.get(key, () -> intern(derivation.apply(key)));
+			} catch (ExecutionException | UncheckedExecutionException e) {
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new IllegalArgumentException(value, e.getCause());
+			}
+		};
+	}
+}
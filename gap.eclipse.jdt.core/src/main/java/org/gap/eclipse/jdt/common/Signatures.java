@@ -1,7 +1,5 @@
 package org.gap.eclipse.jdt.common;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.IMethod;
@@ -16,38 +14,41 @@ public final class Signatures {
 	}
 	
 	public static boolean isAssignable(String signature, String toSignature) {
+		// canonical signatures from the SignaturePool are compared by identity first.
+		if(signature == toSignature) {
+			return true;
+		}
+
 		// check if the both signatures have the same erasure types
-		if(!Signature.getTypeErasure(signature).equals(Signature.getTypeErasure(toSignature))) {
+		if(!SignatureCursor.erasureEquals(signature, toSignature)) {
 			return false;
 		}
 
 		// check if the both signatures have the same type parameters or at least to-side is open like (X<Object> = X)
-		String[] sigArguments = Signature.getTypeArguments(signature);
-		String[] toArguments = Signature.getTypeArguments(toSignature);
+		final SignatureCursor sigArguments = SignatureCursor.typeArguments(signature);
+		final SignatureCursor toArguments = SignatureCursor.typeArguments(toSignature);
+		final int toCount = toArguments.count();
 		
-		if(toArguments.length > 0 && sigArguments.length != toArguments.length) {
+		if(toCount > 0 && sigArguments.count() != toCount) {
 			return false;
 		}
 		
-		for(int i = 0; i < toArguments.length; i++) {
-			final String toArg = toArguments[i];
-			final String sigArg = sigArguments[i];
-			
-			if(!toArg.equals(sigArg)) {
+		while(toArguments.next() && sigArguments.next()) {
+			if(!sigArguments.argumentEquals(0, toArguments)) {
 				// check if the sigArg is a upper bound
 				int startSigOffset = 0;
 				// if its upper bound then try to ignore it for now
-				if(sigArg.startsWith("+")) {
+				if(sigArguments.first() == Signature.C_EXTENDS) {
 					startSigOffset = 1;
 				}
-				if(!Signature.getSignatureQualifier(sigArg.substring(startSigOffset)).isEmpty()) {
+				if(sigArguments.hasQualifier(startSigOffset)) {
 					// if not type param then the type should match or assignable
-					if(Signature.getSignatureQualifier(toArg).isEmpty()) {
+					if(!toArguments.hasQualifier(0)) {
 						// on the toArg we have type parameter to it assignable
 						return true;
 					}
 					
-					if(!toArg.equals(sigArg.substring(startSigOffset))) {
+					if(!sigArguments.argumentEquals(startSigOffset, toArguments)) {
 						return false;
 					}
 				}
@@ -60,16 +61,13 @@ public final class Signatures {
 		final String returnType = method.getReturnType();
 
 		if(returnType.startsWith("Q")) {
-			String simpleName = Signature.getSignatureSimpleName(returnType);
-			int typeParamIndex = simpleName.indexOf('<');
-			if(typeParamIndex > -1) {
-				simpleName = simpleName.substring(0, typeParamIndex);
-			}
+			final int nameStart = SignatureCursor.simpleNameStart(returnType);
+			final String simpleName = returnType.substring(nameStart, SignatureCursor.simpleNameEnd(returnType, nameStart));
 			String resolvedType = Signature.toQualifiedName(
 					method.getDeclaringType().resolveType(Signature.toString(returnType))[0]);
-			return returnType.replace(simpleName, resolvedType).replace('Q', 'L');
+			return SignaturePool.intern(returnType.replace(simpleName, resolvedType).replace('Q', 'L'));
 		}
-		return returnType.replace('$', '.');
+		return SignaturePool.intern(returnType.replace('$', '.'));
 	}
 	
 	public static boolean isNoOfTypeParametersEqual(IType t, String sigRight) {
@@ -80,53 +78,9 @@ public final class Signatures {
 				return false;
 			}
 			
-			List<String> rightArguments = getTypeParametersFromTypeSignature(sigRight);	
-			return leftArguments.length == rightArguments.size();
+			return leftArguments.length == SignatureCursor.countTypeParameters(sigRight);
 		} catch (JavaModelException e) {
 			return false;
 		}
 	}
-	
-	static List<String> getTypeParametersFromTypeSignature(String typeSignature) {
-		char[] chars = typeSignature.toCharArray();
-		List<String> parameters = new ArrayList<>();
-		
-		StringBuilder builder = new StringBuilder();
-		boolean skipChars = true;
-		int ltCount = 0;
-		
-		for (int i = 0; i < chars.length; i++) {
-			if(chars[i] == '<') {
-				if(ltCount == 0) {
-					skipChars = false;
-					ltCount++;
-					continue;
-				}
-				ltCount++;
-			}
-			
-			if(chars[i] == '>') {
-				if(ltCount == 1) {
-					parameters.add(builder.toString());
-					skipChars = true;
-					ltCount--;
-					continue;
-				}
-				ltCount--;
-			}
-			
-			if(chars[i] == ',' && ltCount == 1) {
-				parameters.add(builder.toString());
-				builder = new StringBuilder();
-				continue;
-			}
-			
-			if(skipChars) {
-				continue;
-			}
-			builder.append(chars[i]);
-		}
-		
-		return parameters;
-	}
 }
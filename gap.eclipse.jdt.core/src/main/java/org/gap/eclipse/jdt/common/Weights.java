@@ -0,0 +1,35 @@
+package org.gap.eclipse.jdt.common;
+
+/**
+ * Rough size estimates used to weigh cache entries. Java elements are shared
+ * with the Java model, so only the references to them are counted.
+ */
+public final class Weights {
+	public static final int REFERENCE = 8;
+	public static final int OBJECT = 16;
+	public static final int MAP_ENTRY = 48;
+	public static final int HANDLE = 64;
+
+	private Weights() {
+	}
+
+	public static long of(String value) {
+		return value == null ? 0 : OBJECT + array(value.length() * 2L);
+	}
+
+	public static long of(String[] values) {
+		long weight = array((long) values.length * REFERENCE);
+		for (String value : values) {
+			weight += of(value);
+		}
+		return weight;
+	}
+
+	public static long of(char[] value) {
+		return value == null ? 0 : array(value.length * 2L);
+	}
+
+	public static long array(long bytes) {
+		return OBJECT + bytes;
+	}
+}
@@ -1,36 +1,80 @@
 package org.gap.eclipse.jdt.symbol;
 
 import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 
 import com.google.common.collect.Sets;
 
+/**
+ * Intersection of two scopes. The projects and archives enclosed by both scopes
+ * are computed once, so paths and elements outside of them are rejected without
+ * asking the wrapped scopes.
+ */
 class AndJavaSearchScope implements IJavaSearchScope {
 	private final IJavaSearchScope left, right;
-	
+
+	private final IPath[] enclosingProjectsAndJars;
+
+	private final Set<String> enclosingPaths = new HashSet<>();
+
 	public AndJavaSearchScope(IJavaSearchScope left, IJavaSearchScope right) {
 		this.left = left;
 		this.right = right;
+		final Set<IPath> leftPAJ = Sets.newHashSet(left.enclosingProjectsAndJars());
+		final Set<IPath> rightPAJ = Sets.newHashSet(right.enclosingProjectsAndJars());
+		this.enclosingProjectsAndJars = Sets.intersection(leftPAJ, rightPAJ).toArray(new IPath[0]);
+		for (IPath path : enclosingProjectsAndJars) {
+			enclosingPaths.add(path.toString());
+		}
 	}
 
 	@Override
 	public boolean encloses(String resourcePath) {
-		return left.encloses(resourcePath) && right.encloses(resourcePath);
+		return isInEnclosingPath(resourcePath) && left.encloses(resourcePath) && right.encloses(resourcePath);
 	}
 
 	@Override
 	public boolean encloses(IJavaElement element) {
-		return left.encloses(element) && right.encloses(element);
+		return isInEnclosingPath(element) && left.encloses(element) && right.encloses(element);
 	}
 
 	@Override
 	public IPath[] enclosingProjectsAndJars() {
-		final HashSet<IPath> leftPAJ = Sets.newHashSet(left.enclosingProjectsAndJars());
-		final HashSet<IPath> rightPAJ = Sets.newHashSet(left.enclosingProjectsAndJars());
-		return Sets.intersection(leftPAJ, rightPAJ).toArray(new IPath[0]);
+		return enclosingProjectsAndJars.clone();
+	}
+
+	/**
+	 * Returns whether the path of an archive entry or workspace resource is within
+	 * one of the projects or archives enclosed by both scopes.
+	 */
+	private boolean isInEnclosingPath(String resourcePath) {
+		final int separator = resourcePath.indexOf(JAR_FILE_ENTRY_SEPARATOR);
+		if (separator >= 0) {
+			return enclosingPaths.contains(resourcePath.substring(0, separator));
+		}
+		for (int end = resourcePath.indexOf('/', 1); end > 0; end = resourcePath.indexOf('/', end + 1)) {
+			if (enclosingPaths.contains(resourcePath.substring(0, end))) {
+				return true;
+			}
+		}
+		return enclosingPaths.contains(resourcePath);
+	}
+
+	private boolean isInEnclosingPath(IJavaElement element) {
+		final IPackageFragmentRoot root = (IPackageFragmentRoot) element
+				.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null) {
+			// projects and the model are checked by the wrapped scopes.
+			return true;
+		}
+		// archives and class folders are enclosed by their own path, source folders through their project.
+		return enclosingPaths.contains(root.getPath().toString())
+				|| enclosingPaths.contains(root.getJavaProject().getPath().toString());
 	}
 
 	@SuppressWarnings("deprecation")
@@ -0,0 +1,554 @@
+package org.gap.eclipse.jdt.symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.gap.eclipse.jdt.Messages;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.Log;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Index of the simple names of all method and field declarations in the
+ * workspace. The index is built in the background on first use and kept current
+ * from Java model deltas. Lookups binary search name sorted snapshots of the
+ * binary and the source members, changed compilation units are merged into the
+ * source snapshot on the next lookup. A changed project only has its own source
+ * members and binary roots indexed again.
+ */
+public final class MemberNameIndex extends JavaModelChangeListener implements ManagedCache {
+	private static final Comparator<IMember> BY_NAME = Comparator.comparing(IMember::getElementName);
+
+	private volatile Contents contents;
+
+	private volatile Job buildJob;
+
+	private final Job updateJob = Job.createSystem(Messages.MemberNameIndex_JobName, monitor -> {
+		final Contents current = contents;
+		if (current != null && current.ready) {
+			updateProjects(current, monitor);
+		}
+	});
+
+	/**
+	 * Starts building the index in the background unless it is already built or
+	 * being built.
+	 */
+	public void prepare() {
+		getContents();
+	}
+
+	/**
+	 * Waits until the running build or update, if any, is done.
+	 */
+	void join() throws InterruptedException {
+		final Job job = buildJob;
+		if (job != null) {
+			job.join();
+		}
+		updateJob.join();
+	}
+
+	/**
+	 * Reports the members in the scope whose name starts with, camel case matches
+	 * or wildcard matches the given member name. Prefix matches are reported in
+	 * name order before camel case matches, source members before binary members
+	 * of the same kind of match. Returns <code>false</code> without reporting
+	 * anything when the index is not yet ready.
+	 */
+	public boolean find(String memberName, IJavaSearchScope scope, Consumer<IMember> requestor,
+			IProgressMonitor monitor) {
+		final Contents current = getContents();
+		if (!current.ready) {
+			return false;
+		}
+
+		final Snapshot[] snapshots = { current.sources(), current.binaries() };
+		final int wildcard = indexOfWildcard(memberName);
+		if (wildcard >= 0) {
+			final String prefix = memberName.substring(0, wildcard);
+			final char[] pattern = memberName.endsWith("*") ? memberName.toCharArray()
+					: memberName.concat("*").toCharArray();
+			for (Snapshot snapshot : snapshots) {
+				snapshot.report(snapshot.lowerBound(prefix), snapshot.upperBound(prefix),
+						name -> CharOperation.match(pattern, name.toCharArray(), true), scope, requestor, monitor);
+			}
+			return true;
+		}
+
+		for (Snapshot snapshot : snapshots) {
+			snapshot.report(snapshot.lowerBound(memberName), snapshot.upperBound(memberName), name -> true, scope,
+					requestor, monitor);
+		}
+		if (!memberName.isEmpty()) {
+			// camel case matches share the first character.
+			final String first = memberName.substring(0, 1);
+			final Predicate<String> camelCase = name -> SearchPattern.camelCaseMatch(memberName, name);
+			for (Snapshot snapshot : snapshots) {
+				snapshot.report(snapshot.lowerBound(first), snapshot.lowerBound(memberName), camelCase, scope,
+						requestor, monitor);
+				snapshot.report(snapshot.upperBound(memberName), snapshot.upperBound(first), camelCase, scope,
+						requestor, monitor);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String getName() {
+		return "Member names";
+	}
+
+	@Override
+	public long getFootprint() {
+		final Contents current = contents;
+		return current == null ? 0 : current.weight();
+	}
+
+	@Override
+	public boolean isBudgeted() {
+		// a rebuild searches the whole workspace, so the index is only dropped on low memory.
+		return false;
+	}
+
+	/**
+	 * Drops the index and cancels its build, the index is rebuilt on next use.
+	 */
+	@Override
+	public void clear() {
+		reset();
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return contents != null;
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		final Contents current = contents;
+		if (current == null) {
+			return;
+		}
+		if (!current.ready) {
+			// the running build might have missed the change, it is rebuilt on next use.
+			reset();
+			return;
+		}
+		current.projectChanged(project);
+		updateJob.schedule();
+	}
+
+	@Override
+	protected void packageFragmentRemoved(IPackageFragment fragment) {
+		final Contents current = contents;
+		if (current != null) {
+			current.removed(fragment);
+		}
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		final Contents current = contents;
+		if (current != null) {
+			// applied after the build, so members found by the build are replaced rather than duplicated.
+			current.changed(unit);
+		}
+	}
+
+	private Contents getContents() {
+		Contents current = contents;
+		if (current == null) {
+			synchronized (this) {
+				current = contents;
+				if (current == null) {
+					current = new Contents();
+					contents = current;
+					scheduleBuild(current);
+				}
+			}
+		}
+		return current;
+	}
+
+	private synchronized void reset() {
+		contents = null;
+		if (buildJob != null) {
+			buildJob.cancel();
+			buildJob = null;
+		}
+		updateJob.cancel();
+	}
+
+	private void scheduleBuild(Contents target) {
+		Job job = Job.create(Messages.MemberNameIndex_JobName, monitor -> {
+			buildIndex(target, monitor);
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		buildJob = job;
+		job.schedule();
+	}
+
+	private void buildIndex(Contents target, IProgressMonitor monitor) throws CoreException {
+		try {
+			searchMembers(SearchEngine.createWorkspaceScope(), target::add, monitor);
+		} catch (OperationCanceledException e) {
+			// handled below.
+		}
+
+		synchronized (this) {
+			if (contents == target) {
+				if (monitor.isCanceled()) {
+					contents = null;
+				} else {
+					target.built();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indexes the changed projects again. The source members of a changed project
+	 * are replaced by the members of its current compilation units on the next
+	 * lookup. The binary roots of a changed project are searched again, and the
+	 * members of binary roots which are no longer on the classpath of any project
+	 * are dropped, the other binary roots are kept as they are.
+	 */
+	private void updateProjects(Contents target, IProgressMonitor monitor) throws CoreException {
+		final Set<IJavaProject> projects = target.takeChangedProjects();
+		if (projects.isEmpty()) {
+			return;
+		}
+
+		final Set<IPath> classpath = new HashSet<>();
+		final Map<IPath, IPackageFragmentRoot> refreshed = new HashMap<>();
+		final List<ICompilationUnit> units = new ArrayList<>();
+		for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+			if (!project.getProject().isOpen()) {
+				continue;
+			}
+			final boolean changed = projects.contains(project);
+			for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+				if (root.getKind() == IPackageFragmentRoot.K_BINARY) {
+					classpath.add(root.getPath());
+					if (changed) {
+						refreshed.putIfAbsent(root.getPath(), root);
+					}
+				} else if (changed && project.equals(root.getJavaProject())) {
+					for (IJavaElement fragment : root.getChildren()) {
+						units.addAll(Arrays.asList(((IPackageFragment) fragment).getCompilationUnits()));
+					}
+				}
+			}
+		}
+		target.sourcesChanged(projects, units);
+
+		final List<IMember> added = new ArrayList<>();
+		if (!refreshed.isEmpty()) {
+			searchMembers(SearchEngine.createJavaSearchScope(refreshed.values().toArray(new IJavaElement[0])),
+					added::add, monitor);
+		}
+		target.binariesChanged(classpath, refreshed.keySet(), added);
+	}
+
+	private static void searchMembers(IJavaSearchScope scope, Consumer<IMember> requestor, IProgressMonitor monitor)
+			throws CoreException {
+		final SearchPattern methodPattern = SearchPattern.createPattern("*", IJavaSearchConstants.METHOD,
+				IJavaSearchConstants.DECLARATIONS, SearchPattern.R_PATTERN_MATCH);
+		final SearchPattern fieldPattern = SearchPattern.createPattern("*", IJavaSearchConstants.FIELD,
+				IJavaSearchConstants.DECLARATIONS, SearchPattern.R_PATTERN_MATCH);
+		new SearchEngine().search(SearchPattern.createOrPattern(methodPattern, fieldPattern),
+				new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope, new SearchRequestor() {
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (match.getElement() instanceof IMember) {
+							requestor.accept((IMember) match.getElement());
+						}
+					}
+				}, monitor);
+	}
+
+	private static IPath rootPath(IMember member) {
+		return member.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT).getPath();
+	}
+
+	private static List<IMember> membersOf(ICompilationUnit unit) {
+		final List<IMember> members = new ArrayList<>();
+		try {
+			for (IType type : unit.getAllTypes()) {
+				members.addAll(Arrays.asList(type.getMethods()));
+				members.addAll(Arrays.asList(type.getFields()));
+			}
+		} catch (JavaModelException e) {
+			// the unit might have been removed in between.
+			Log.error(e);
+		}
+		return members;
+	}
+
+	private static int indexOfWildcard(String memberName) {
+		for (int i = 0; i < memberName.length(); i++) {
+			char c = memberName.charAt(i);
+			if (c == '*' || c == '?') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Name sorted snapshots of the binary and source members. Binary members only
+	 * change with a rebuild or when the roots of a changed project are indexed
+	 * again. Changed compilation units, removed packages and changed projects are
+	 * queued, also while the index is built, and merged into the source snapshot
+	 * on the next lookup.
+	 */
+	private static final class Contents {
+		private final Object updateLock = new Object();
+		private List<IMember> binaryMatches = new ArrayList<>();
+		private List<IMember> sourceMatches = new ArrayList<>();
+		private final Set<ICompilationUnit> changed = new HashSet<>();
+		private final Set<IPackageFragment> removedPackages = new HashSet<>();
+		private final Set<IJavaProject> removedProjects = new HashSet<>();
+		private final Set<IJavaProject> changedProjects = new HashSet<>();
+		// only written by the build and then by the update job.
+		private volatile Set<IPath> binaryRoots = new HashSet<>();
+		private volatile Snapshot binaries = Snapshot.EMPTY;
+		private volatile Snapshot sources = Snapshot.EMPTY;
+		private volatile boolean ready;
+
+		synchronized void add(IMember member) {
+			if (member.getCompilationUnit() == null) {
+				binaryMatches.add(member);
+			} else {
+				sourceMatches.add(member);
+			}
+		}
+
+		synchronized void changed(ICompilationUnit unit) {
+			changed.add(unit);
+		}
+
+		synchronized void removed(IPackageFragment fragment) {
+			removedPackages.add(fragment);
+		}
+
+		synchronized void projectChanged(IJavaProject project) {
+			changedProjects.add(project);
+		}
+
+		synchronized Set<IJavaProject> takeChangedProjects() {
+			final Set<IJavaProject> projects = new HashSet<>(changedProjects);
+			changedProjects.clear();
+			return projects;
+		}
+
+		/**
+		 * Queues the removal of the source members of the projects together with the
+		 * units which are currently in them.
+		 */
+		synchronized void sourcesChanged(Set<IJavaProject> projects, Collection<ICompilationUnit> units) {
+			removedProjects.addAll(projects);
+			changed.addAll(units);
+		}
+
+		/**
+		 * Replaces the members of the refreshed roots and of the roots no longer on
+		 * the classpath by the added members.
+		 */
+		void binariesChanged(Set<IPath> classpath, Set<IPath> refreshed, List<IMember> added) {
+			final Set<IPath> dropped = new HashSet<>(binaryRoots);
+			dropped.removeAll(classpath);
+			dropped.addAll(refreshed);
+			binaries = binaries.merge(m -> dropped.contains(rootPath(m)), added);
+			final Set<IPath> roots = new HashSet<>(binaryRoots);
+			roots.removeAll(dropped);
+			added.forEach(m -> roots.add(rootPath(m)));
+			binaryRoots = roots;
+		}
+
+		synchronized void built() {
+			for (IMember member : binaryMatches) {
+				binaryRoots.add(rootPath(member));
+			}
+			binaries = Snapshot.sorted(binaryMatches);
+			sources = Snapshot.sorted(sourceMatches);
+			binaryMatches = null;
+			sourceMatches = null;
+			ready = true;
+		}
+
+		Snapshot binaries() {
+			return binaries;
+		}
+
+		Snapshot sources() {
+			// members are read outside of the monitor, which delta notifications wait for.
+			synchronized (updateLock) {
+				final Set<ICompilationUnit> units;
+				final Set<IPackageFragment> packages;
+				final Set<IJavaProject> projects;
+				synchronized (this) {
+					if (changed.isEmpty() && removedPackages.isEmpty() && removedProjects.isEmpty()) {
+						return sources;
+					}
+					units = new HashSet<>(changed);
+					packages = new HashSet<>(removedPackages);
+					projects = new HashSet<>(removedProjects);
+					changed.clear();
+					removedPackages.clear();
+					removedProjects.clear();
+				}
+				final List<IMember> added = new ArrayList<>();
+				for (ICompilationUnit unit : units) {
+					if (unit.exists()) {
+						added.addAll(membersOf(unit));
+					}
+				}
+				sources = sources.merge(m -> units.contains(m.getCompilationUnit())
+						|| (!packages.isEmpty() && packages.contains(m.getAncestor(IJavaElement.PACKAGE_FRAGMENT)))
+						|| (!projects.isEmpty() && projects.contains(m.getJavaProject())), added);
+				return sources;
+			}
+		}
+
+		synchronized long weight() {
+			final long pending = binaryMatches == null ? 0
+					: (binaryMatches.size() + sourceMatches.size()) * (long) (Weights.HANDLE + Weights.REFERENCE);
+			final long queued = changed.size() + removedPackages.size() + removedProjects.size()
+					+ changedProjects.size() + binaryRoots.size();
+			return Weights.OBJECT + pending + queued * Weights.MAP_ENTRY + binaries.weight() + sources.weight();
+		}
+	}
+
+	private static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(new IMember[0], new String[0]);
+
+		private final IMember[] members;
+		private final String[] names;
+
+		private Snapshot(IMember[] members, String[] names) {
+			this.members = members;
+			this.names = names;
+		}
+
+		static Snapshot sorted(List<IMember> members) {
+			final IMember[] sorted = members.toArray(new IMember[0]);
+			Arrays.sort(sorted, BY_NAME);
+			final String[] names = new String[sorted.length];
+			for (int i = 0; i < sorted.length; i++) {
+				names[i] = sorted[i].getElementName();
+			}
+			return new Snapshot(sorted, names);
+		}
+
+		/**
+		 * Returns a snapshot without the removed members, in which the added members
+		 * are merged.
+		 */
+		Snapshot merge(Predicate<IMember> removed, List<IMember> added) {
+			final Snapshot addition = sorted(added);
+			final IMember[] mergedMembers = new IMember[members.length + addition.members.length];
+			final String[] mergedNames = new String[mergedMembers.length];
+			int i = 0, j = 0, k = 0;
+			while (i < members.length || j < addition.members.length) {
+				if (i < members.length && removed.test(members[i])) {
+					i++;
+				} else if (j == addition.members.length
+						|| (i < members.length && names[i].compareTo(addition.names[j]) <= 0)) {
+					mergedMembers[k] = members[i];
+					mergedNames[k++] = names[i++];
+				} else {
+					mergedMembers[k] = addition.members[j];
+					mergedNames[k++] = addition.names[j++];
+				}
+			}
+			return new Snapshot(Arrays.copyOf(mergedMembers, k), Arrays.copyOf(mergedNames, k));
+		}
+
+		/**
+		 * Returns the index of the first name which is not less than the prefix.
+		 */
+		int lowerBound(String prefix) {
+			int low = 0, high = names.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (names[mid].compareTo(prefix) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Returns the index after the last name which starts with the prefix.
+		 */
+		int upperBound(String prefix) {
+			if (prefix.isEmpty()) {
+				return names.length;
+			}
+			int low = lowerBound(prefix), high = names.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (names[mid].startsWith(prefix)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		void report(int from, int to, Predicate<String> matcher, IJavaSearchScope scope, Consumer<IMember> requestor,
+				IProgressMonitor monitor) {
+			for (int i = from; i < to; i++) {
+				if (monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				if (matcher.test(names[i]) && scope.encloses(members[i])) {
+					requestor.accept(members[i]);
+				}
+			}
+		}
+
+		long weight() {
+			return members.length * (long) Weights.HANDLE + 2 * Weights.array(members.length * (long) Weights.REFERENCE);
+		}
+	}
+}
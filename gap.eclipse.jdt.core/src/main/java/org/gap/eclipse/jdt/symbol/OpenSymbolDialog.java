@@ -1,8 +1,10 @@
 package org.gap.eclipse.jdt.symbol;
 
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -12,13 +14,8 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchMatch;
-import org.eclipse.jdt.core.search.SearchParticipant;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jface.action.IMenuManager;
@@ -29,6 +26,7 @@ import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.IMemento;
 import org.eclipse.ui.IWorkingSet;
 import org.eclipse.ui.actions.WorkingSetFilterActionGroup;
 import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog;
@@ -37,12 +35,18 @@ import org.gap.eclipse.jdt.CorePlugin;
 @SuppressWarnings("restriction")
 public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 	private static final String DIALOG_SETTINGS = "org.gap.eclipse.jdt.symbol.OpenSymbolDialog";
-	private final SearchEngine engine = new SearchEngine();
+	private static final int MAX_RESULTS = Integer.getInteger("org.gap.eclipse.jdt.symbol.maxResults", 5000);
+	private static final int FIRST_BATCH = Integer.getInteger("org.gap.eclipse.jdt.symbol.firstBatch", 100);
 	private WorkingSetFilterActionGroup filterActionGroup;
 	private IWorkingSet workingSet = null;
+	// labels are computed once when an item is collected and reused when refiltering.
+	private final Map<IMember, String> qualifiedLabels = new ConcurrentHashMap<>();
+	private final SymbolHistory history = new SymbolHistory();
 
 	public OpenSymbolDialog(Shell shell) {
 		super(shell);
+		CorePlugin.getDefault().getMemberNameIndex().prepare();
+		setSelectionHistory(history);
 		setListLabelProvider(new SymbolLabelProvider());
 		setDetailsLabelProvider(new LabelProvider() {
 			@Override
@@ -91,7 +95,12 @@ public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 
 	@Override
 	protected Comparator<?> getItemsComparator() {
-		return new SymbolComparator();
+		return ranking();
+	}
+
+	private Comparator<IMember> ranking() {
+		// frequently opened symbols first, the history is only updated when the dialog closes.
+		return Comparator.comparingInt((IMember m) -> -history.getFrequency(m)).thenComparing(new SymbolComparator());
 	}
 
 	@Override
@@ -119,79 +128,10 @@ public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 		monitor.setTaskName("Searching for symbols");
 
 		final SymbolsFilter filter = (SymbolsFilter) itemsFilter;
-		IJavaSearchScope scope;
-		String memberName;
-
-		final String pattern = filter.getPattern();
-		if(pattern.startsWith(".")) {
-			return;
-		}
-		
-		if (isQualifiedPattern(pattern)) {
-			final String parentType = pattern.substring(0, pattern.lastIndexOf('.')).replace('$', '.');
-			IType type = searchForType(parentType, monitor);
-			if (type == null) {
-				return;
-			}
-
-			scope = SearchEngine.createHierarchyScope(type);
-			if (!isEmptyWorkingSet()) {
-				scope = new AndJavaSearchScope(scope,
-						JavaSearchScopeFactory.getInstance().createJavaSearchScope(filter.getWorkingSet(), true));
-			}
-			memberName = pattern.substring(pattern.lastIndexOf('.') + 1);
-			filter.setFullyQualifiedSearch(true);
-		} else {
-			if (isEmptyWorkingSet()) {
-				scope = SearchEngine.createWorkspaceScope();
-			} else {
-				scope = JavaSearchScopeFactory.getInstance().createJavaSearchScope(filter.getWorkingSet(), true);
-			}
-			
-			if(isRegex(pattern)) {
-				memberName = pattern.substring(pattern.lastIndexOf('.') + 1);
-				filter.setFullyQualifiedSearch(true);
-			} else {
-				memberName = pattern;
-				filter.setFullyQualifiedSearch(false);
-			}
-		}
-
-		SearchPattern methodPattern = SearchPattern.createPattern(memberName, IJavaSearchConstants.METHOD,
-				IJavaSearchConstants.DECLARATIONS, SearchPattern.R_CASE_SENSITIVE | SearchPattern.R_PREFIX_MATCH);
-
-		SearchPattern fieldPattern = SearchPattern.createPattern(memberName, IJavaSearchConstants.FIELD,
-				IJavaSearchConstants.DECLARATIONS, SearchPattern.R_CASE_SENSITIVE | SearchPattern.R_PREFIX_MATCH);
-
-		engine.search(SearchPattern.createOrPattern(methodPattern, fieldPattern),
-				new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
-				new SymbolRequester(contentProvider, itemsFilter), monitor);
-	}
-
-	private IType searchForType(String parentType, IProgressMonitor monitor) throws CoreException {
-		SearchPattern pattern = SearchPattern.createPattern(parentType, IJavaSearchConstants.TYPE,
-				IJavaSearchConstants.DECLARATIONS, SearchPattern.R_CASE_SENSITIVE | SearchPattern.R_FULL_MATCH);
-		List<IType> result = new ArrayList<>(1);
-		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
-				SearchEngine.createWorkspaceScope(), new SearchRequestor() {
-
-					@Override
-					public void acceptSearchMatch(SearchMatch match) throws CoreException {
-						if ((match.getAccuracy() == SearchMatch.A_ACCURATE) && (match.getElement() instanceof IType)) {
-							result.add((IType) match.getElement());
-						}
-					}
-				}, monitor);
-
-		return result.isEmpty() ? null : result.get(0);
-	}
-
-	private boolean isQualifiedPattern(String pattern) {
-		return pattern.contains(".") && !isRegex(pattern);
-	}
-
-	private boolean isRegex(String pattern) {
-		return pattern.contains("*");
+		final IJavaSearchScope scope = isEmptyWorkingSet() ? null
+				: JavaSearchScopeFactory.getInstance().createJavaSearchScope(filter.getWorkingSet(), true);
+		filter.truncated = CorePlugin.getDefault().getSymbolQueryService().query(filter.getPattern(), scope,
+				MAX_RESULTS, ranking(), new SymbolCollector(contentProvider, filter), monitor);
 	}
 
 	@Override
@@ -203,43 +143,42 @@ public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 		return member.getElementName();
 	}
 
-	private static class SymbolRequester extends SearchRequestor {
-		private AbstractContentProvider contentProvider;
-		private ItemsFilter itemsFilter;
-		private boolean methodsFound = false, fieldsFound = false;
-
-		public SymbolRequester(AbstractContentProvider contentProvider, ItemsFilter itemsFilter) {
+	/**
+	 * Adds the found members to the content provider and refreshes the list when
+	 * the first batch and each doubling of it are collected, so the first matches
+	 * are shown while the search continues.
+	 */
+	private class SymbolCollector implements Consumer<IMember> {
+		private final AbstractContentProvider contentProvider;
+		private final SymbolsFilter filter;
+		// members are collected from several search partitions at once.
+		private final AtomicInteger count = new AtomicInteger();
+
+		SymbolCollector(AbstractContentProvider contentProvider, SymbolsFilter filter) {
 			this.contentProvider = contentProvider;
-			this.itemsFilter = itemsFilter;
-		}
-
-		@Override
-		public void acceptSearchMatch(SearchMatch match) throws CoreException {
-			contentProvider.add(match.getElement(), itemsFilter);
-		}
-		
-		@Override
-		public void beginReporting() {
-			methodsFound = false;
-			fieldsFound = false;
-			super.beginReporting();
+			this.filter = filter;
 		}
 
 		@Override
-		public void endReporting() {
-			((SymbolsFilter) itemsFilter).setResultHasBothTypes(methodsFound && fieldsFound);
-			super.endReporting();
+		public void accept(IMember member) {
+			contentProvider.add(member, filter);
+			final int collected = count.incrementAndGet();
+			if (collected % FIRST_BATCH == 0 && Integer.bitCount(collected / FIRST_BATCH) == 1) {
+				scheduleRefresh();
+			}
 		}
 	}
 
 	private class SymbolsFilter extends ItemsFilter {
 
-		private boolean resultHasBothTypes;
-		private boolean fullyQualifiedSearch;
+		private final boolean fullyQualifiedSearch;
 		private IWorkingSet workingSet;
+		private volatile boolean truncated;
 
 		public SymbolsFilter(IWorkingSet workingSet) {
 			this.workingSet = workingSet;
+			this.fullyQualifiedSearch = SymbolQueryService.isQualifiedPattern(getPattern())
+					|| SymbolQueryService.isRegex(getPattern());
 		}
 
 		@Override
@@ -250,8 +189,9 @@ public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 		}
 
 		private String fqn(IMember member) {
-			return JavaElementLabels.getElementLabel(member, JavaElementLabels.F_FULLY_QUALIFIED
-					| JavaElementLabels.M_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_TYPES);
+			return qualifiedLabels.computeIfAbsent(member,
+					m -> JavaElementLabels.getElementLabel(m, JavaElementLabels.F_FULLY_QUALIFIED
+							| JavaElementLabels.M_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_TYPES));
 		}
 
 		@Override
@@ -259,17 +199,21 @@ public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 			return true;
 		}
 
+		/**
+		 * The items of this filter can be narrowed locally when they were not
+		 * truncated, the pattern of the given filter extends this pattern in the same
+		 * working set, and the extension neither selects another declaring type nor
+		 * switches between qualified and wildcard search.
+		 */
 		@Override
 		public boolean isSubFilter(ItemsFilter filter) {
-			return super.isSubFilter(filter) && resultHasBothTypes;
-		}
-
-		public void setResultHasBothTypes(boolean resultHasBothTypes) {
-			this.resultHasBothTypes = resultHasBothTypes;
-		}
-
-		public void setFullyQualifiedSearch(boolean fullyQualifiedSearch) {
-			this.fullyQualifiedSearch = fullyQualifiedSearch;
+			if (truncated || !super.isSubFilter(filter) || ((SymbolsFilter) filter).workingSet != workingSet) {
+				return false;
+			}
+			final String pattern = getPattern();
+			final String refined = filter.getPattern();
+			return refined.indexOf('.', pattern.length()) < 0
+					&& SymbolQueryService.isRegex(pattern) == SymbolQueryService.isRegex(refined);
 		}
 
 		@Override
@@ -282,4 +226,57 @@ public class OpenSymbolDialog extends FilteredItemsSelectionDialog {
 		}
 	}
 
+	/**
+	 * Recently opened symbols, stored by handle identifier in the dialog settings
+	 * together with the number of times each symbol was opened. History items are
+	 * shown before the search completes and the frequency ranks results.
+	 */
+	private static class SymbolHistory extends SelectionHistory {
+		private static final String TAG_HANDLE = "handle";
+		private static final String TAG_FREQUENCY = "frequency";
+
+		private final Map<IMember, Integer> frequencies = new ConcurrentHashMap<>();
+
+		@Override
+		public synchronized void accessed(Object object) {
+			super.accessed(object);
+			frequencies.merge((IMember) object, 1, Integer::sum);
+		}
+
+		@Override
+		public synchronized boolean remove(Object element) {
+			frequencies.remove(element);
+			return super.remove(element);
+		}
+
+		/**
+		 * Returns the number of times the member was opened, or zero if it is not in
+		 * the history.
+		 */
+		int getFrequency(IMember member) {
+			return frequencies.getOrDefault(member, 0);
+		}
+
+		@Override
+		protected Object restoreItemFromMemento(IMemento memento) {
+			final String handle = memento.getString(TAG_HANDLE);
+			if (handle == null) {
+				return null;
+			}
+			final IJavaElement element = JavaCore.create(handle);
+			if (!(element instanceof IMember) || !element.exists()) {
+				return null;
+			}
+			final Integer frequency = memento.getInteger(TAG_FREQUENCY);
+			frequencies.put((IMember) element, frequency == null ? 1 : frequency);
+			return element;
+		}
+
+		@Override
+		protected void storeItemToMemento(Object item, IMemento memento) {
+			final IMember member = (IMember) item;
+			memento.putString(TAG_HANDLE, member.getHandleIdentifier());
+			memento.putInteger(TAG_FREQUENCY, getFrequency(member));
+		}
+	}
 }
@@ -0,0 +1,205 @@
+package org.gap.eclipse.jdt.symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.gap.eclipse.jdt.CorePlugin;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+
+/**
+ * Runs a member declaration search in parallel. The package fragment roots of
+ * the scope are distributed over one partition per processor and each
+ * partition is searched with its own search engine and pattern, since patterns
+ * hold matching state. Partitions run on a dedicated pool of search threads and
+ * the package fragment roots of the workspace are kept until the next
+ * classpath change.
+ */
+public final class PartitionedSearch extends JavaModelChangeListener {
+	private static final int PARALLELISM = Integer.getInteger("org.gap.eclipse.jdt.symbol.parallelism",
+			Runtime.getRuntime().availableProcessors());
+
+	private static final long KEEP_ALIVE_SECONDS = 30;
+
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
+			KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				final Thread thread = new Thread(runnable, "Symbol Search");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	private volatile List<IPackageFragmentRoot> roots;
+
+	private int generation;
+
+	public PartitionedSearch() {
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	public void dispose() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Reports the members matching the pattern in the scope. The requestor is
+	 * called from multiple threads.
+	 */
+	void search(Supplier<SearchPattern> pattern, IJavaSearchScope scope, Consumer<IMember> requestor,
+			IProgressMonitor monitor) throws CoreException {
+		final List<IJavaSearchScope> partitions = partition(scope);
+		if (partitions.size() < 2) {
+			search(pattern.get(), scope, requestor, monitor);
+			return;
+		}
+
+		final List<Future<?>> futures = new ArrayList<>(partitions.size());
+		for (IJavaSearchScope partition : partitions) {
+			futures.add(executor.submit(() -> {
+				try {
+					// progress is only reported by the caller, partitions only check cancellation.
+					search(pattern.get(), partition, requestor, new NullProgressMonitor() {
+						@Override
+						public boolean isCanceled() {
+							return monitor.isCanceled();
+						}
+					});
+				} catch (CoreException e) {
+					CorePlugin.getDefault().logError(e.getMessage(), e);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				futures.forEach(f -> f.cancel(true));
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				// partitions stopped by the monitor are reported below.
+				if (!(e.getCause() instanceof OperationCanceledException)) {
+					CorePlugin.getDefault().logError(e.getCause().getMessage(), e.getCause());
+				}
+			}
+		}
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return roots != null;
+	}
+
+	@Override
+	protected synchronized void projectChanged(IJavaProject project) {
+		generation++;
+		roots = null;
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		// package fragment roots only change with the classpath.
+	}
+
+	private static void search(SearchPattern pattern, IJavaSearchScope scope, Consumer<IMember> requestor,
+			IProgressMonitor monitor) throws CoreException {
+		new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
+				scope, new SearchRequestor() {
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (match.getElement() instanceof IMember) {
+							requestor.accept((IMember) match.getElement());
+						}
+					}
+				}, monitor);
+	}
+
+	private List<IJavaSearchScope> partition(IJavaSearchScope scope) throws JavaModelException {
+		final Set<IPath> enclosing = new HashSet<>(Arrays.asList(scope.enclosingProjectsAndJars()));
+		final List<IPackageFragmentRoot> enclosed = new ArrayList<>();
+		for (IPackageFragmentRoot root : roots()) {
+			// source roots are enclosed through their project, archives by their own path.
+			if (enclosing.contains(root.getPath()) || enclosing.contains(root.getJavaProject().getPath())) {
+				enclosed.add(root);
+			}
+		}
+
+		final int count = Math.min(PARALLELISM, enclosed.size());
+		final List<List<IJavaElement>> groups = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			groups.add(new ArrayList<>());
+		}
+		int next = 0;
+		for (IPackageFragmentRoot root : enclosed) {
+			groups.get(next++ % count).add(root);
+		}
+
+		final List<IJavaSearchScope> partitions = new ArrayList<>(count);
+		for (List<IJavaElement> group : groups) {
+			partitions.add(new AndJavaSearchScope(
+					SearchEngine.createJavaSearchScope(group.toArray(new IJavaElement[0]), false), scope));
+		}
+		return partitions;
+	}
+
+	/**
+	 * Returns the package fragment roots of all workspace projects, archives
+	 * shared by several projects only once.
+	 */
+	private List<IPackageFragmentRoot> roots() throws JavaModelException {
+		List<IPackageFragmentRoot> current = roots;
+		if (current == null) {
+			final int expected;
+			synchronized (this) {
+				expected = generation;
+			}
+			final Map<IPath, IPackageFragmentRoot> all = new LinkedHashMap<>();
+			for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+				for (IPackageFragmentRoot root : project.getAllPackageFragmentRoots()) {
+					all.putIfAbsent(root.getPath(), root);
+				}
+			}
+			current = Collections.unmodifiableList(new ArrayList<>(all.values()));
+			synchronized (this) {
+				// roots read before a classpath change are used once but not kept.
+				if (generation == expected) {
+					roots = current;
+				}
+			}
+		}
+		return current;
+	}
+}
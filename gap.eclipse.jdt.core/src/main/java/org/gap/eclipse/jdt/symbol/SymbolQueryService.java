@@ -0,0 +1,171 @@
+package org.gap.eclipse.jdt.symbol;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+
+/**
+ * Finds the method and field declarations matching an Open Symbol pattern
+ * without any UI. The pattern is a member name, a member name qualified by its
+ * declaring type, or a wildcard pattern whose last segment is the member name.
+ * Lookups are answered from the {@link MemberNameIndex} when it is ready and by
+ * a {@link PartitionedSearch} otherwise, declaring types are resolved through
+ * the {@link TypeNameCache}.
+ */
+public final class SymbolQueryService {
+	private static final Comparator<IMember> BY_NAME = Comparator.comparing(IMember::getElementName);
+
+	private final MemberNameIndex memberNameIndex;
+
+	private final TypeNameCache typeNameCache;
+
+	private final PartitionedSearch partitionedSearch;
+
+	public SymbolQueryService(MemberNameIndex memberNameIndex, TypeNameCache typeNameCache,
+			PartitionedSearch partitionedSearch) {
+		this.memberNameIndex = memberNameIndex;
+		this.typeNameCache = typeNameCache;
+		this.partitionedSearch = partitionedSearch;
+	}
+
+	/**
+	 * Reports up to <code>limit</code> members matching the pattern in the scope to
+	 * the requestor, ranked by name.
+	 *
+	 * @see #query(String, IJavaSearchScope, int, Comparator, Consumer,
+	 *      IProgressMonitor)
+	 */
+	public boolean query(String pattern, IJavaSearchScope scope, int limit, Consumer<IMember> requestor,
+			IProgressMonitor monitor) throws CoreException {
+		return query(pattern, scope, limit, BY_NAME, requestor, monitor);
+	}
+
+	/**
+	 * Reports up to <code>limit</code> members matching the pattern in the scope to
+	 * the requestor, which might be called from multiple threads. A
+	 * <code>null</code> scope searches the workspace.
+	 * <p>
+	 * The index reports prefix matches in name order before camel case matches and
+	 * stops at the limit, so the ranking is not applied to the index and the cut
+	 * follows name order. Opened members beyond the cut are still shown by
+	 * {@link OpenSymbolDialog}, which adds matching history items itself.
+	 * </p>
+	 * <p>
+	 * The search reports members in arbitrary order, so it runs to the end and
+	 * reports each member as it arrives if it ranks among the best
+	 * <code>limit</code> members found so far. Members which are outranked later
+	 * have already been reported, so the requestor might receive more than
+	 * <code>limit</code> members, but never a member outside the best ones at the
+	 * time it arrived.
+	 * </p>
+	 *
+	 * @return <code>true</code> if the results were cut at the limit.
+	 * @throws OperationCanceledException if the monitor is cancelled.
+	 */
+	public boolean query(String pattern, IJavaSearchScope scope, int limit, Comparator<? super IMember> ranking,
+			Consumer<IMember> requestor, IProgressMonitor monitor) throws CoreException {
+		if (pattern.startsWith(".")) {
+			return false;
+		}
+
+		IJavaSearchScope searchScope = scope == null ? SearchEngine.createWorkspaceScope() : scope;
+		final String memberName = isQualifiedPattern(pattern) || isRegex(pattern)
+				? pattern.substring(pattern.lastIndexOf('.') + 1)
+				: pattern;
+		if (isQualifiedPattern(pattern)) {
+			final String parentType = pattern.substring(0, pattern.lastIndexOf('.')).replace('$', '.');
+			final IType type = typeNameCache.find(parentType, monitor).orElse(null);
+			if (type == null) {
+				return false;
+			}
+			searchScope = scope == null ? SearchEngine.createHierarchyScope(type)
+					: new AndJavaSearchScope(SearchEngine.createHierarchyScope(type), scope);
+		}
+
+		final AtomicInteger count = new AtomicInteger();
+		final Consumer<IMember> limited = member -> {
+			if (count.incrementAndGet() <= limit) {
+				requestor.accept(member);
+			}
+		};
+		final IProgressMonitor limitedMonitor = new ProgressMonitorWrapper(monitor) {
+			@Override
+			public boolean isCanceled() {
+				return super.isCanceled() || count.get() >= limit;
+			}
+		};
+
+		try {
+			if (!memberNameIndex.find(memberName, searchScope, limited, limitedMonitor)) {
+				return searchRanked(memberName, searchScope, limit, ranking, requestor, monitor);
+			}
+		} catch (OperationCanceledException e) {
+			// the search is stopped when the limit is reached.
+			if (monitor.isCanceled()) {
+				throw e;
+			}
+		}
+		return count.get() >= limit;
+	}
+
+	private boolean searchRanked(String memberName, IJavaSearchScope scope, int limit,
+			Comparator<? super IMember> ranking, Consumer<IMember> requestor, IProgressMonitor monitor)
+			throws CoreException {
+		// the head of the queue is the lowest ranked of the best members found so far.
+		final PriorityQueue<IMember> best = new PriorityQueue<>(Collections.reverseOrder(ranking));
+		final AtomicInteger count = new AtomicInteger();
+		partitionedSearch.search(() -> createMemberPattern(memberName), scope, member -> {
+			count.incrementAndGet();
+			final boolean admitted;
+			synchronized (best) {
+				admitted = best.size() < limit || ranking.compare(member, best.peek()) < 0;
+				if (admitted) {
+					best.add(member);
+					if (best.size() > limit) {
+						best.poll();
+					}
+				}
+			}
+			if (admitted) {
+				requestor.accept(member);
+			}
+		}, monitor);
+		return count.get() > limit;
+	}
+
+	static boolean isQualifiedPattern(String pattern) {
+		return pattern.contains(".") && !isRegex(pattern);
+	}
+
+	static boolean isRegex(String pattern) {
+		return pattern.contains("*");
+	}
+
+	private static SearchPattern createMemberPattern(String memberName) {
+		// matches the same names as the member name index: wildcard patterns as prefix, others by prefix or camel case.
+		final boolean wildcard = memberName.indexOf('*') >= 0 || memberName.indexOf('?') >= 0;
+		final String name = wildcard && !memberName.endsWith("*") ? memberName.concat("*") : memberName;
+		final int matchRule = wildcard ? SearchPattern.R_CASE_SENSITIVE | SearchPattern.R_PATTERN_MATCH
+				: SearchPattern.R_CASE_SENSITIVE | SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CAMELCASE_MATCH;
+		SearchPattern methodPattern = SearchPattern.createPattern(name, IJavaSearchConstants.METHOD,
+				IJavaSearchConstants.DECLARATIONS, matchRule);
+
+		SearchPattern fieldPattern = SearchPattern.createPattern(name, IJavaSearchConstants.FIELD,
+				IJavaSearchConstants.DECLARATIONS, matchRule);
+
+		return SearchPattern.createOrPattern(methodPattern, fieldPattern);
+	}
+}
@@ -0,0 +1,103 @@
+package org.gap.eclipse.jdt.symbol;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the workspace types for the simple or qualified type names used in
+ * qualified symbol patterns. Types are looked up in the type name index, which
+ * avoids locating declarations, and names without a type are cached as well
+ * until the next compilation unit change.
+ */
+public final class TypeNameCache extends JavaModelChangeListener implements ManagedCache {
+	private static final int MAX_TYPES = 1000;
+
+	private final Cache<String, Optional<IType>> types = CacheBuilder.newBuilder().maximumSize(MAX_TYPES).build();
+
+	/**
+	 * Returns the first type whose fully qualified name is or ends with the given
+	 * dot separated name.
+	 */
+	Optional<IType> find(String typeName, IProgressMonitor monitor) throws JavaModelException {
+		Optional<IType> type = types.getIfPresent(typeName);
+		if (type == null) {
+			type = search(typeName, monitor);
+			types.put(typeName, type);
+		}
+		return type;
+	}
+
+	private Optional<IType> search(String typeName, IProgressMonitor monitor) throws JavaModelException {
+		final String simpleName = typeName.substring(typeName.lastIndexOf('.') + 1);
+		final String qualifiedSuffix = ".".concat(typeName);
+		final IType[] result = new IType[1];
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, simpleName.toCharArray(),
+				SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE, IJavaSearchConstants.TYPE,
+				SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+					@Override
+					public void acceptTypeNameMatch(TypeNameMatch match) {
+						final String name = match.getFullyQualifiedName();
+						if (result[0] == null && (name.equals(typeName) || name.endsWith(qualifiedSuffix))) {
+							result[0] = match.getType();
+						}
+					}
+				}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		return Optional.ofNullable(result[0]);
+	}
+
+	@Override
+	public String getName() {
+		return "Symbol type names";
+	}
+
+	@Override
+	public long getFootprint() {
+		return types.asMap().keySet().stream().mapToLong(k -> Weights.MAP_ENTRY + Weights.HANDLE + Weights.of(k))
+				.sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(types.asMap(), e -> Weights.MAP_ENTRY + Weights.HANDLE + Weights.of(e.getKey()),
+				bytes);
+	}
+
+	@Override
+	public void clear() {
+		types.invalidateAll();
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return types.size() > 0;
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		types.invalidateAll();
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		// a missing type might have been added by the change.
+		final Map<String, Optional<IType>> entries = types.asMap();
+		entries.values().removeIf(t -> !t.isPresent() || unit.equals(t.get().getCompilationUnit()));
+	}
+}
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,6 +34,7 @@ import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.contentassist.IContextInformation;
 import org.gap.eclipse.jdt.CorePlugin;
 import org.gap.eclipse.jdt.common.Log;
+import org.gap.eclipse.jdt.common.SignaturePool;
 import org.osgi.framework.Version;
 
 import com.google.common.collect.Sets;
@@ -42,6 +44,8 @@ public abstract class AbstractSmartProposalComputer implements IJavaCompletionPr
 
 	protected static final long TIMEOUT = Long.getLong("org.gap.eclipse.jdt.types.smartSearchTimeout",
 			defaultTimeout());
+	private static final UnaryOperator<String> PARAMETERIZED_FQN = SignaturePool.memoize(
+			sig -> Signature.getSignatureQualifier(sig).concat(".").concat(Signature.getSignatureSimpleName(sig)));
 	private Set<String> unsupportedTypes = Sets.newHashSet("java.lang.String", "java.lang.Object",
 			"java.lang.Cloneable", "java.lang.Throwable", "java.lang.Exception");
 
@@ -94,10 +98,7 @@ public abstract class AbstractSmartProposalComputer implements IJavaCompletionPr
 	}
 
 	protected final String toParameterizeFQN(char[] signature) {
-		final String sig = String.valueOf(signature);
-		final String qualifier = Signature.getSignatureQualifier(sig);
-		final String name = Signature.getSignatureSimpleName(sig);
-		return qualifier.concat(".").concat(name);
+		return PARAMETERIZED_FQN.apply(String.valueOf(signature));
 	}
 
 	protected final Set<String> resolveExpectedTypes(@NonNull JavaContentAssistInvocationContext context) {
@@ -110,7 +111,7 @@ public abstract class AbstractSmartProposalComputer implements IJavaCompletionPr
 
 	protected final Set<IType> resolveTypesFromProject(@NonNull Collection<String> typeSignatures,
 			@NonNull JavaContentAssistInvocationContext context, @NonNull IProgressMonitor monitor) {
-		return typeSignatures.stream().map(Signature::getTypeErasure).map(t -> {
+		return typeSignatures.stream().map(SignaturePool::erasure).map(t -> {
 			try {
 				return context.getProject().findType(t, monitor);
 			} catch (JavaModelException e) {
@@ -0,0 +1,95 @@
+package org.gap.eclipse.jdt.types;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.gap.eclipse.jdt.common.SignaturePool;
+import org.gap.eclipse.jdt.common.Signatures;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Compact record of a static member search candidate. It only holds the
+ * interned handle identifier and the values needed to filter candidates, the
+ * member itself is recreated from the handle when a proposal is created.
+ */
+final class CachedMember {
+	private final String handleIdentifier;
+	private final String name;
+	private final boolean method;
+	private final int flags;
+	private final int declaringTypeFlags;
+	private volatile String returnType;
+
+	private CachedMember(IMember member) throws JavaModelException {
+		this.handleIdentifier = SignaturePool.intern(member.getHandleIdentifier());
+		this.name = SignaturePool.intern(member.getElementName());
+		this.method = member instanceof IMethod;
+		this.flags = member.getFlags();
+		this.declaringTypeFlags = member.getDeclaringType().getFlags();
+	}
+
+	/**
+	 * Returns the record of the given search match element, or <code>null</code>
+	 * if the element is not a method or field.
+	 */
+	static CachedMember of(Object element) throws JavaModelException {
+		if (element instanceof IMethod || element instanceof IField) {
+			return new CachedMember((IMember) element);
+		}
+		return null;
+	}
+
+	String getHandleIdentifier() {
+		return handleIdentifier;
+	}
+
+	String getName() {
+		return name;
+	}
+
+	boolean isMethod() {
+		return method;
+	}
+
+	int getFlags() {
+		return flags;
+	}
+
+	int getDeclaringTypeFlags() {
+		return declaringTypeFlags;
+	}
+
+	/**
+	 * Returns the fully qualified resolved return type signature of a method,
+	 * which is computed on first access.
+	 */
+	String getReturnType() throws JavaModelException {
+		String type = returnType;
+		if (type == null) {
+			type = Signatures.getFullQualifiedResolvedReturnType((IMethod) toMember());
+			returnType = type;
+		}
+		return type;
+	}
+
+	IMember toMember() {
+		return (IMember) JavaCore.create(handleIdentifier);
+	}
+
+	long weight() {
+		return Weights.OBJECT + Weights.of(handleIdentifier) + Weights.of(name) + 12
+				+ (returnType == null ? 0 : Weights.of(returnType));
+	}
+
+	@Override
+	public int hashCode() {
+		return handleIdentifier.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof CachedMember && handleIdentifier.equals(((CachedMember) obj).handleIdentifier);
+	}
+}
@@ -2,11 +2,14 @@ package org.gap.eclipse.jdt.types;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchDocument;
 import org.eclipse.jdt.core.search.SearchMatch;
@@ -14,77 +17,165 @@ import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 import org.gap.eclipse.jdt.CorePlugin;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+/**
+ * Replays the static member matches of the previous search when the next
+ * search looks for the same types with an extended token. Each search gets its
+ * own {@link Search} participant holding the state it was started with, so
+ * concurrent searches never replay each other's token or types.
+ */
+public class CachedSearchParticipant implements ManagedCache {
+	private final AtomicReference<SearchState> state = new AtomicReference<>(SearchState.NONE);
 
-public class CachedSearchParticipant extends SearchParticipant {
-	private List<String> lastType;
-	
-	private String lastToken;
-	
-	private boolean useCache;
-	
-	private Cache<SearchMatch, SearchMatch> cache = CacheBuilder.newBuilder().softValues().build();
-
-	private SearchParticipant participant;
+	private final SearchParticipant participant;
 
 	public CachedSearchParticipant(SearchParticipant participant) {
 		this.participant = participant;
+		CorePlugin.getDefault().getCacheRegistry().register(this);
+	}
+
+	/**
+	 * Returns the participant for a search of the given types and token.
+	 */
+	Search beforeSearch(List<String> expectedTypeFQNs, String token) {
+		return new Search(state.updateAndGet(s -> s.next(expectedTypeFQNs, token)));
+	}
+
+	@Override
+	public String getName() {
+		return "Static member matches";
+	}
+
+	@Override
+	public long getFootprint() {
+		return state.get().members.values().stream().mapToLong(m -> Weights.MAP_ENTRY + m.weight()).sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(state.get().members, e -> Weights.MAP_ENTRY + e.getValue().weight(), bytes);
+	}
+
+	@Override
+	public void clear() {
+		resetCache();
 	}
 
-	public void indexDocument(SearchDocument document, IPath indexPath) {
-		participant.indexDocument(document, indexPath);
+	public void resetCache() {
+		state.set(SearchState.NONE);
 	}
 
-	public void locateMatches(SearchDocument[] indexMatches, SearchPattern pattern, IJavaSearchScope scope,
-			SearchRequestor requestor, IProgressMonitor monitor) throws CoreException {
-		if (useCache) {
-			Collection<SearchMatch> values = cache.asMap().values();
-			if(values.isEmpty()) {
+	/**
+	 * Participant of a single search. Matches are replayed from the members of its
+	 * state when the state allows it, and otherwise located by the wrapped
+	 * participant and cached in its state.
+	 */
+	final class Search extends SearchParticipant {
+		private final SearchState searchState;
+
+		Search(SearchState searchState) {
+			this.searchState = searchState;
+		}
+
+		@Override
+		public void indexDocument(SearchDocument document, IPath indexPath) {
+			participant.indexDocument(document, indexPath);
+		}
+
+		@Override
+		public void locateMatches(SearchDocument[] indexMatches, SearchPattern pattern, IJavaSearchScope scope,
+				SearchRequestor requestor, IProgressMonitor monitor) throws CoreException {
+			final Collection<CachedMember> values = searchState.members.values();
+			if (!searchState.useCache || values.isEmpty()) {
 				participant.locateMatches(indexMatches, pattern, scope, requestor, monitor);
 				return;
 			}
 			requestor.beginReporting();
 			values.stream()
-			.filter(m -> m.getElement() instanceof IMember)
-			.filter(m -> ((IMember)m.getElement()).getElementName().startsWith(lastToken))
+			.filter(m -> m.getName().startsWith(searchState.token))
 			.forEach(v -> {
 				try {
-					requestor.acceptSearchMatch(v);
+					requestor.acceptSearchMatch(new CachedSearchMatch(v, this));
 				} catch (CoreException e) {
 					CorePlugin.getDefault().logError(e.getMessage(), e);
 				}
 			});
 			requestor.endReporting();
-		} else {
-			cache.invalidateAll();
-			participant.locateMatches(indexMatches, pattern, scope, requestor, monitor);
 		}
-	}
 
-	public IPath[] selectIndexes(SearchPattern pattern, IJavaSearchScope scope) {
-		return participant.selectIndexes(pattern, scope);
-	}
+		@Override
+		public IPath[] selectIndexes(SearchPattern pattern, IJavaSearchScope scope) {
+			return participant.selectIndexes(pattern, scope);
+		}
 
-	@Override
-	public SearchDocument getDocument(String documentPath) {
-		return participant.getDocument(documentPath);
-	}
-	
-	public void cacheMatch(SearchMatch match) {
-		cache.put(match, match);
+		@Override
+		public SearchDocument getDocument(String documentPath) {
+			return participant.getDocument(documentPath);
+		}
+
+		/**
+		 * Caches the member of the given match and returns its record, or
+		 * <code>null</code> if the match is not a method or field.
+		 */
+		CachedMember cacheMatch(SearchMatch match) throws JavaModelException {
+			if (match instanceof CachedSearchMatch) {
+				return ((CachedSearchMatch) match).getMember();
+			}
+
+			final CachedMember member = CachedMember.of(match.getElement());
+			if (member != null) {
+				final CachedMember existing = searchState.members.putIfAbsent(member.getHandleIdentifier(), member);
+				return existing != null ? existing : member;
+			}
+			return null;
+		}
 	}
-	
-	public void beforeSearch(List<String> expectedTypeFQNs, String token) {
-		useCache = (lastType != null && lastType.equals(expectedTypeFQNs) && 
-				lastToken != null && (lastToken.equals(token) || (!lastToken.isEmpty() && token.startsWith(lastToken))));
-		this.lastToken = token;
-		this.lastType = expectedTypeFQNs;
+
+	/**
+	 * Immutable state of a search. A search which extends the token of the previous
+	 * search for the same types shares its members, any other search starts with
+	 * empty members.
+	 */
+	private static final class SearchState {
+		private static final SearchState NONE = new SearchState(null, null, false, new ConcurrentHashMap<>());
+
+		private final List<String> types;
+		private final String token;
+		private final boolean useCache;
+		private final Map<String, CachedMember> members;
+
+		SearchState(List<String> types, String token, boolean useCache, Map<String, CachedMember> members) {
+			this.types = types;
+			this.token = token;
+			this.useCache = useCache;
+			this.members = members;
+		}
+
+		SearchState next(List<String> expectedTypeFQNs, String nextToken) {
+			final boolean cached = types != null && types.equals(expectedTypeFQNs) && token != null
+					&& (token.equals(nextToken) || (!token.isEmpty() && nextToken.startsWith(token)));
+			return new SearchState(expectedTypeFQNs, nextToken, cached,
+					cached ? members : new ConcurrentHashMap<>());
+		}
 	}
-	
-	public void resetCache() {
-		lastToken = null;
-		lastType = null;
+
+	/**
+	 * Match replayed from the cache. It carries the cached record instead of an
+	 * element, the member is only recreated from its handle for the proposals
+	 * shown.
+	 */
+	static final class CachedSearchMatch extends SearchMatch {
+		private final CachedMember member;
+
+		CachedSearchMatch(CachedMember member, SearchParticipant participant) {
+			super(null, SearchMatch.A_ACCURATE, 0, 0, participant, null);
+			this.member = member;
+		}
+
+		CachedMember getMember() {
+			return member;
+		}
 	}
 }
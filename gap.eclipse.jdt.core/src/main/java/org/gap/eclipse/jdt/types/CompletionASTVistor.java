@@ -64,6 +64,46 @@ class CompletionASTVistor extends ASTVisitor {
 		}
 	}
 
+	/**
+	 * Subtrees whose source range does not contain the invocation offset cannot
+	 * contribute an expected type, so they are not visited. Lambda and postfix
+	 * expressions in them still reset the visitor as a full visit would.
+	 */
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		final int start = node.getStartPosition();
+		if (start < 0 || (offset >= start && offset <= start + node.getLength())) {
+			return true;
+		}
+		if (resetsVistor(node)) {
+			resetVistor();
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether a full visit of the subtree, which is outside the offset,
+	 * would reach a lambda or postfix expression.
+	 */
+	private boolean resetsVistor(ASTNode subtree) {
+		final boolean[] found = { false };
+		subtree.accept(new ASTVisitor() {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				if (found[0]) {
+					return false;
+				}
+				if (node instanceof LambdaExpression || node instanceof PostfixExpression) {
+					found[0] = true;
+					return false;
+				}
+				// invocations outside the offset stop the visit once the expected type is found.
+				return !doneProcessing || !(node instanceof MethodInvocation || node instanceof ClassInstanceCreation);
+			}
+		});
+		return found[0];
+	}
+
 	@Override
 	public boolean visit(ClassInstanceCreation node) {
 		return visitNode(node, Suppliers.memoize(node::arguments), method -> Arrays.asList(method.getParameterTypes()),
@@ -102,12 +142,10 @@ class CompletionASTVistor extends ASTVisitor {
 		final CodeRange current = new CodeRange(node.getStartPosition(), node.getStartPosition() + node.getLength(),
 				node);
 
-		final IMethodBinding methodBinding = bindingSupplier.get();
-		if (methodBinding == null) {
-			return false;
-		}
-
 		if (current.inRange(offset) && (lastVisited == null || lastVisited.inRange(current))) {
+			if (bindingSupplier.get() == null) {
+				return false;
+			}
 			lastVisited = current;
 			lastFoundNode = node;
 			this.argumentSupplier = argumentSupplier;
@@ -0,0 +1,223 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.gap.eclipse.jdt.Messages;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.Log;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Index of interface to implementing enum types per project. The index of a
+ * project is built in the background when it is first prepared, rebuilt after
+ * classpath changes and kept current from Java model deltas, so
+ * enum literals for interface typed parameters can be proposed without running
+ * an implementors search. The literal tables of indexed enums are warmed up in
+ * the given {@link EnumLiteralCache}.
+ */
+public final class EnumImplementorIndex extends JavaModelChangeListener implements ManagedCache {
+	private final Map<IJavaProject, ProjectIndex> projects = new ConcurrentHashMap<>();
+
+	private final EnumLiteralCache literalCache;
+
+	public EnumImplementorIndex(EnumLiteralCache literalCache) {
+		this.literalCache = literalCache;
+	}
+
+	/**
+	 * Starts building the index of the project in the background unless it is
+	 * already built or being built.
+	 */
+	public void prepare(IJavaProject project) {
+		projects.computeIfAbsent(project, this::scheduleBuild);
+	}
+
+	/**
+	 * Waits until the running build of the project index, if any, is done.
+	 */
+	void join(IJavaProject project) throws InterruptedException {
+		final ProjectIndex index = projects.get(project);
+		if (index != null) {
+			index.job.join();
+		}
+	}
+
+	/**
+	 * Returns the enums which directly implement the given interface, or an empty
+	 * optional if the index of the project is not yet ready.
+	 */
+	public Optional<Set<IType>> findImplementingEnums(IType interfaceType, IJavaProject project) {
+		final ProjectIndex index = projects.computeIfAbsent(project, this::scheduleBuild);
+		if (!index.ready) {
+			return Optional.empty();
+		}
+		return Optional.of(index.implementors(interfaceType.getFullyQualifiedName('.')));
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return !projects.isEmpty();
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		final ProjectIndex removed = projects.remove(project);
+		if (removed != null) {
+			removed.job.cancel();
+			// keep the index of a project in use ready instead of waiting for the next lookup.
+			if (project.isOpen()) {
+				prepare(project);
+			}
+		}
+	}
+
+	@Override
+	public String getName() {
+		return "Enum implementors";
+	}
+
+	@Override
+	public long getFootprint() {
+		return projects.values().stream().mapToLong(i -> Weights.MAP_ENTRY + i.weight()).sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(projects, e -> Weights.MAP_ENTRY + e.getValue().weight(), bytes);
+	}
+
+	@Override
+	public void clear() {
+		projects.clear();
+	}
+
+	private ProjectIndex scheduleBuild(IJavaProject project) {
+		final ProjectIndex index = new ProjectIndex();
+		Job job = Job.create(Messages.EnumImplementorIndex_JobName, monitor -> {
+			buildIndex(project, index, monitor);
+		});
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		index.job = job;
+		job.schedule();
+		return index;
+	}
+
+	private void buildIndex(IJavaProject project, ProjectIndex index, IProgressMonitor monitor) throws CoreException {
+		new SearchEngine().searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, null, SearchPattern.R_PREFIX_MATCH,
+				IJavaSearchConstants.ENUM, SearchEngine.createJavaSearchScope(new IJavaElement[] { project }),
+				new TypeNameMatchRequestor() {
+					@Override
+					public void acceptTypeNameMatch(TypeNameMatch match) {
+						index.add(match.getType());
+					}
+				}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+		if (monitor.isCanceled()) {
+			projects.remove(project, index);
+		} else {
+			index.ready = true;
+		}
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit cu, boolean exists) {
+		final List<IType> enums = exists ? enumsOf(cu) : Collections.emptyList();
+		projects.forEach((project, index) -> {
+			index.remove(cu);
+			if (!enums.isEmpty() && project.isOnClasspath(cu)) {
+				enums.forEach(index::add);
+			}
+		});
+	}
+
+	private List<IType> enumsOf(ICompilationUnit cu) {
+		try {
+			return Stream.of(cu.getAllTypes()).filter(t -> {
+				try {
+					return t.isEnum();
+				} catch (JavaModelException e) {
+					Log.error(e);
+					return false;
+				}
+			}).collect(Collectors.toList());
+		} catch (JavaModelException e) {
+			// the unit might have been removed in between.
+			return Collections.emptyList();
+		}
+	}
+
+	private final class ProjectIndex {
+		private final Map<String, Set<IType>> implementors = new ConcurrentHashMap<>();
+		private volatile boolean ready;
+		private Job job;
+
+		Set<IType> implementors(String interfaceName) {
+			return Optional.ofNullable(implementors.get(interfaceName)).map(Collections::unmodifiableSet)
+					.orElse(Collections.emptySet());
+		}
+
+		void add(IType enumType) {
+			try {
+				final String[] interfaceNames = enumType.getSuperInterfaceNames();
+				for (String name : interfaceNames) {
+					String interfaceName = resolveInterfaceName(enumType, name);
+					if (interfaceName != null) {
+						implementors.computeIfAbsent(interfaceName, k -> ConcurrentHashMap.newKeySet()).add(enumType);
+					}
+				}
+				if (interfaceNames.length > 0) {
+					// warm up the literal table since these will be proposed for the interface.
+					literalCache.get(enumType);
+				}
+			} catch (JavaModelException e) {
+				Log.error(e);
+			}
+		}
+
+		long weight() {
+			return implementors.entrySet().stream().mapToLong(
+					e -> Weights.MAP_ENTRY + Weights.of(e.getKey()) + e.getValue().size() * (long) Weights.MAP_ENTRY)
+					.sum();
+		}
+
+		void remove(ICompilationUnit cu) {
+			implementors.values().forEach(s -> s.removeIf(t -> cu.equals(t.getCompilationUnit())));
+		}
+
+		private String resolveInterfaceName(IType enumType, String name) throws JavaModelException {
+			final String erasure = Signature.getTypeErasure(name);
+			if (enumType.isBinary()) {
+				return erasure.replace('$', '.');
+			}
+
+			String[][] resolved = enumType.resolveType(erasure);
+			if (resolved == null || resolved.length == 0) {
+				return null;
+			}
+			return resolved[0][0].isEmpty() ? resolved[0][1] : resolved[0][0].concat(".").concat(resolved[0][1]);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Cache of {@link EnumLiteralTable} per enum type. Tables of source enums are
+ * dropped when their compilation unit changes, all tables of a project are
+ * dropped when its classpath changes.
+ */
+public final class EnumLiteralCache extends JavaModelChangeListener implements ManagedCache {
+	private final Map<IType, EnumLiteralTable> tables = new ConcurrentHashMap<>();
+
+	EnumLiteralTable get(IType enumType) throws JavaModelException {
+		EnumLiteralTable table = tables.get(enumType);
+		if (table == null) {
+			table = EnumLiteralTable.of(enumType);
+			tables.put(enumType, table);
+		}
+		return table;
+	}
+
+	@Override
+	public String getName() {
+		return "Enum literals";
+	}
+
+	@Override
+	public long getFootprint() {
+		return tables.values().stream().mapToLong(t -> Weights.MAP_ENTRY + t.weight()).sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(tables, e -> Weights.MAP_ENTRY + e.getValue().weight(), bytes);
+	}
+
+	@Override
+	public void clear() {
+		tables.clear();
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return !tables.isEmpty();
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		tables.keySet().removeIf(t -> project.equals(t.getJavaProject()));
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		tables.keySet().removeIf(t -> unit.equals(t.getCompilationUnit()));
+	}
+}
@@ -0,0 +1,88 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Precomputed literal table of an enum, holding everything needed to create
+ * literal proposals without walking the enum members again.
+ */
+final class EnumLiteralTable {
+	private final IType enumType;
+	private final String typeName;
+	private final char[] declarationSignature;
+	private final String[] names;
+	private final int[] flags;
+	private final String[] typeSignatures;
+
+	private EnumLiteralTable(IType enumType, String[] names, int[] flags, String[] typeSignatures) {
+		this.enumType = enumType;
+		this.typeName = enumType.getElementName();
+		this.declarationSignature = Signature.createTypeSignature(enumType.getFullyQualifiedName(), true)
+				.toCharArray();
+		this.names = names;
+		this.flags = flags;
+		this.typeSignatures = typeSignatures;
+	}
+
+	static EnumLiteralTable of(IType enumType) throws JavaModelException {
+		final IField[] fields = enumType.getFields();
+		final List<IField> literals = new ArrayList<>(fields.length);
+		for (IField field : fields) {
+			if (Flags.isPublic(field.getFlags()) && !field.getElementName().equals("$VALUES")) {
+				literals.add(field);
+			}
+		}
+
+		final String[] names = new String[literals.size()];
+		final int[] flags = new int[literals.size()];
+		final String[] typeSignatures = new String[literals.size()];
+		for (int i = 0; i < names.length; i++) {
+			IField field = literals.get(i);
+			names[i] = field.getElementName();
+			flags[i] = field.getFlags();
+			typeSignatures[i] = field.getTypeSignature();
+		}
+		return new EnumLiteralTable(enumType, names, flags, typeSignatures);
+	}
+
+	public IType getEnumType() {
+		return enumType;
+	}
+
+	public String getTypeName() {
+		return typeName;
+	}
+
+	public char[] getDeclarationSignature() {
+		return declarationSignature;
+	}
+
+	public int size() {
+		return names.length;
+	}
+
+	public String getName(int index) {
+		return names[index];
+	}
+
+	public int getFlags(int index) {
+		return flags[index];
+	}
+
+	public String getTypeSignature(int index) {
+		return typeSignatures[index];
+	}
+
+	long weight() {
+		return Weights.OBJECT + Weights.HANDLE + Weights.of(typeName) + Weights.of(declarationSignature)
+				+ Weights.of(names) + Weights.array(flags.length * 4L) + Weights.of(typeSignatures);
+	}
+}
@@ -0,0 +1,64 @@
+package org.gap.eclipse.jdt.types;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Binding free descriptor of the single abstract method of a functional
+ * interface. It only holds the method handle and the simple type names needed
+ * to match method references, so it can outlive the AST it was created from.
+ */
+final class FunctionalDescriptor {
+	private final IMethod method;
+	private final String[] parameterTypeNames;
+	private final String returnTypeName;
+
+	private FunctionalDescriptor(IMethod method, String[] parameterTypeNames, String returnTypeName) {
+		this.method = method;
+		this.parameterTypeNames = parameterTypeNames;
+		this.returnTypeName = returnTypeName;
+	}
+
+	static FunctionalDescriptor of(IMethodBinding binding) {
+		final ITypeBinding[] parameterTypes = binding.getParameterTypes();
+		final String[] names = new String[parameterTypes.length];
+		for (int i = 0; i < parameterTypes.length; i++) {
+			ITypeBinding tb = parameterTypes[i];
+			if (tb.isTypeVariable()) {
+				names[i] = null;
+			} else if (tb.isWildcardType() && tb.isUpperbound()) {
+				names[i] = tb.getBound().getName();
+			} else {
+				names[i] = tb.getName();
+			}
+		}
+		return new FunctionalDescriptor((IMethod) binding.getJavaElement(), names,
+				binding.getReturnType().getName());
+	}
+
+	public IMethod getMethod() {
+		return method;
+	}
+
+	public int getParameterCount() {
+		return parameterTypeNames.length;
+	}
+
+	/**
+	 * Returns the simple name the parameter at the given index must match, or
+	 * <code>null</code> if the parameter is a type variable which matches any type.
+	 */
+	public String getParameterTypeName(int index) {
+		return parameterTypeNames[index];
+	}
+
+	public String getReturnTypeName() {
+		return returnTypeName;
+	}
+
+	long weight() {
+		return Weights.OBJECT + Weights.HANDLE + Weights.of(parameterTypeNames) + Weights.of(returnTypeName);
+	}
+}
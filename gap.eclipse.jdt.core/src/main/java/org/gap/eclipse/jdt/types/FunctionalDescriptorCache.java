@@ -0,0 +1,123 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Cache of functional descriptors keyed by the type binding key per project. A
+ * type which is not a functional interface is cached as well, so repeated
+ * completions do not walk the declared methods of the binding again. Expected
+ * types known as {@link IType} are keyed by their handle identifier, so no
+ * bindings need to be created for types which were seen before.
+ */
+public final class FunctionalDescriptorCache extends JavaModelChangeListener implements ManagedCache {
+	private final Map<IJavaProject, Map<String, Entry>> projects = new ConcurrentHashMap<>();
+
+	Optional<FunctionalDescriptor> get(IJavaProject project, ITypeBinding binding,
+			Function<ITypeBinding, Optional<FunctionalDescriptor>> loader) {
+		final String key = binding.getKey();
+		if (key == null) {
+			return loader.apply(binding);
+		}
+
+		final Map<String, Entry> entries = projects.computeIfAbsent(project, p -> new ConcurrentHashMap<>());
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			entry = new Entry(binding.getJavaElement(), loader.apply(binding).orElse(null));
+			entries.put(key, entry);
+		}
+		return Optional.ofNullable(entry.descriptor);
+	}
+
+	List<FunctionalDescriptor> get(IJavaProject project, Collection<IType> types,
+			Function<Collection<IType>, List<IBinding>> bindingResolver,
+			Function<ITypeBinding, Optional<FunctionalDescriptor>> loader) {
+		final Map<String, Entry> entries = projects.computeIfAbsent(project, p -> new ConcurrentHashMap<>());
+		final List<IType> missing = types.stream().filter(t -> !entries.containsKey(t.getHandleIdentifier()))
+				.collect(Collectors.toList());
+
+		if (!missing.isEmpty()) {
+			for (IBinding binding : bindingResolver.apply(missing)) {
+				if (binding instanceof ITypeBinding && binding.getJavaElement() instanceof IType) {
+					final IType type = (IType) binding.getJavaElement();
+					entries.put(type.getHandleIdentifier(),
+							new Entry(type, loader.apply((ITypeBinding) binding).orElse(null)));
+				}
+			}
+		}
+
+		return types.stream().map(t -> entries.get(t.getHandleIdentifier())).filter(Objects::nonNull)
+				.map(e -> e.descriptor).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	@Override
+	public String getName() {
+		return "Functional descriptors";
+	}
+
+	@Override
+	public long getFootprint() {
+		return projects.values().stream().flatMap(m -> m.entrySet().stream())
+				.mapToLong(e -> Weights.MAP_ENTRY + Weights.of(e.getKey()) + e.getValue().weight()).sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(projects, p -> p.getValue().entrySet().stream()
+				.mapToLong(e -> Weights.MAP_ENTRY + Weights.of(e.getKey()) + e.getValue().weight()).sum(), bytes);
+	}
+
+	@Override
+	public void clear() {
+		projects.clear();
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return !projects.isEmpty();
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		projects.remove(project);
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		projects.values().forEach(m -> m.values().removeIf(e -> e.isDeclaredIn(unit)));
+	}
+
+	private static final class Entry {
+		private final IJavaElement type;
+		private final FunctionalDescriptor descriptor;
+
+		Entry(IJavaElement type, FunctionalDescriptor descriptor) {
+			this.type = type;
+			this.descriptor = descriptor;
+		}
+
+		long weight() {
+			return Weights.OBJECT + Weights.HANDLE + (descriptor == null ? 0 : descriptor.weight());
+		}
+
+		boolean isDeclaredIn(ICompilationUnit unit) {
+			return type == null || unit.equals(type.getAncestor(IJavaElement.COMPILATION_UNIT));
+		}
+	}
+}
@@ -1,13 +1,34 @@
 package org.gap.eclipse.jdt.types;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.gap.eclipse.jdt.CorePlugin;
 
 public final class InBuiltSuggestion {
+	/**
+	 * Preference holding a comma separated list of additional fully qualified type
+	 * names whose static methods are suggested as method references.
+	 */
+	public static final String PREF_METHOD_REFERENCE_TYPES = "types.methodReferenceTypeSuggestions";
+
+	private static final List<String> METHOD_REFERENCE_TYPES = List.of("java.util.Objects",
+			"java.util.function.Predicate", "java.util.function.Function", "com.google.common.base.Predicates",
+			"com.google.common.base.Functions");
+
 	private InBuiltSuggestion() {
 	}
 
 	static List<String> getMethodReferenceTypeSuggestions() {
-		return List.of("java.util.Objects", "java.util.function.Predicate", "java.util.function.Function",
-				"com.google.common.base.Predicates", "com.google.common.base.Functions");
+		final String additional = CorePlugin.getDefault().getPreferenceStore().getString(PREF_METHOD_REFERENCE_TYPES);
+		if (additional.trim().isEmpty()) {
+			return METHOD_REFERENCE_TYPES;
+		}
+
+		final List<String> suggestions = new ArrayList<>(METHOD_REFERENCE_TYPES);
+		Stream.of(additional.split(",")).map(String::trim).filter(t -> !t.isEmpty() && !suggestions.contains(t))
+				.forEach(suggestions::add);
+		return suggestions;
 	}
 }
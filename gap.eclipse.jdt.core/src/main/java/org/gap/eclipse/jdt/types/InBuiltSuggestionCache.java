@@ -0,0 +1,116 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.Log;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Cache of the resolved {@link InBuiltSuggestion} types per project. The method
+ * shape indexes of the resolved types are warmed up in the given
+ * {@link MethodShapeCache} so their static methods are ready for method
+ * reference lookups. Entries are dropped when a unit declaring one of their
+ * types changes, on classpath changes and when the suggestion preference
+ * changes.
+ */
+public final class InBuiltSuggestionCache extends JavaModelChangeListener
+		implements IPropertyChangeListener, ManagedCache {
+	private final Map<IJavaProject, Entry> projects = new ConcurrentHashMap<>();
+
+	private final MethodShapeCache methodShapeCache;
+
+	public InBuiltSuggestionCache(MethodShapeCache methodShapeCache) {
+		this.methodShapeCache = methodShapeCache;
+	}
+
+	List<IType> getMethodReferenceTypes(IJavaProject project) {
+		Entry entry = projects.get(project);
+		if (entry == null) {
+			entry = resolve(project);
+			projects.put(project, entry);
+		}
+		return entry.types;
+	}
+
+	@Override
+	public String getName() {
+		return "In-built suggestions";
+	}
+
+	@Override
+	public long getFootprint() {
+		return projects.values().stream()
+				.mapToLong(e -> Weights.MAP_ENTRY + Weights.OBJECT + Weights.array(e.types.size() * (long) Weights.REFERENCE)).sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(projects, e -> Weights.MAP_ENTRY + Weights.OBJECT
+				+ Weights.array(e.getValue().types.size() * (long) Weights.REFERENCE), bytes);
+	}
+
+	@Override
+	public void clear() {
+		projects.clear();
+	}
+
+	@Override
+	public void propertyChange(PropertyChangeEvent event) {
+		if (InBuiltSuggestion.PREF_METHOD_REFERENCE_TYPES.equals(event.getProperty())) {
+			clear();
+		}
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return !projects.isEmpty();
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		projects.remove(project);
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		// types which could not be resolved are picked up on the next classpath change.
+		projects.values().removeIf(e -> e.types.stream().anyMatch(t -> unit.equals(t.getCompilationUnit())));
+	}
+
+	private Entry resolve(IJavaProject project) {
+		final List<String> names = InBuiltSuggestion.getMethodReferenceTypeSuggestions();
+		final List<IType> types = new ArrayList<>(names.size());
+		for (String name : names) {
+			try {
+				IType type = project.findType(name);
+				if (type != null) {
+					methodShapeCache.get(type);
+					types.add(type);
+				}
+			} catch (JavaModelException e) {
+				Log.error(e);
+			}
+		}
+		return new Entry(Collections.unmodifiableList(types));
+	}
+
+	private static final class Entry {
+		private final List<IType> types;
+
+		Entry(List<IType> types) {
+			this.types = types;
+		}
+	}
+}
@@ -18,7 +18,6 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.Modifier;
@@ -26,6 +25,7 @@ import org.eclipse.jdt.internal.codeassist.impl.AssistOptions;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.gap.eclipse.jdt.CorePlugin;
 import org.gap.eclipse.jdt.common.Log;
 
 @SuppressWarnings("restriction")
@@ -49,20 +49,26 @@ public class Java8ProposalComputer extends AbstractSmartProposalComputer impleme
 			return Collections.emptyList();
 		}
 
-		assistOptions = getAssistOptions(context);
+		if (assistOptions == null) {
+			assistOptions = getAssistOptions(context);
+		}
 		final Set<String> expectedTypes = resolveExpectedTypes(context);
 
+		final FunctionalDescriptorCache descriptorCache = CorePlugin.getDefault().getFunctionalDescriptorCache();
 		if (!expectedTypes.isEmpty()) {
-			List<IBinding> bindings = resolveBindings(resolveTypesFromProject(expectedTypes, context, monitor),
-					context, monitor);
-			if(bindings.isEmpty()) {
+			List<FunctionalDescriptor> descriptors = descriptorCache.get(context.getProject(),
+					resolveTypesFromProject(expectedTypes, context, monitor),
+					types -> resolveBindings(types, context, monitor), this::functionalTypeMethod);
+			if(descriptors.isEmpty()) {
 				return Collections.emptyList();
 			}
 			
-			return computeJava8Proposals(bindings, context);
+			return computeJava8Proposals(descriptors, context);
 		} else {
 			final ASTResult result = findInAST(context, monitor);
-			return computeJava8Proposals(result.getExpectedTypeBindings(), context);
+			return computeJava8Proposals(result.getExpectedTypeBindings().stream()
+					.map(b -> descriptorCache.get(context.getProject(), b, this::functionalTypeMethod))
+					.flatMap(Optional::stream).collect(Collectors.toList()), context);
 		}
 	}
 
@@ -70,17 +76,17 @@ public class Java8ProposalComputer extends AbstractSmartProposalComputer impleme
 	public void sessionEnded() {
 		super.sessionEnded();
 		this.assistOptions = null;
+		this.methodReferenceFinder.sessionEnded();
 	}
 
-	private List<ICompletionProposal> computeJava8Proposals(Collection<? extends IBinding> bindings,
+	private List<ICompletionProposal> computeJava8Proposals(Collection<FunctionalDescriptor> descriptors,
 			JavaContentAssistInvocationContext context) {
-		return bindings.stream().filter(b -> b instanceof ITypeBinding).map(ITypeBinding.class::cast)
-				.flatMap(this::functionalTypeMethod).flatMap(e -> toLambdaProposal(context, e))
-				.collect(Collectors.toList());
+		final MethodRefMatcher matcher = MethodRefMatcher.of(context, assistOptions);
+		return descriptors.stream().flatMap(d -> toLambdaProposal(context, d, matcher)).collect(Collectors.toList());
 	}
 
 	private Stream<? extends ICompletionProposal> toLambdaProposal(JavaContentAssistInvocationContext context,
-			IMethodBinding binding) {
+			FunctionalDescriptor descriptor, MethodRefMatcher matcher) {
 		try {
 			List<IJavaElement> elements = new ArrayList<>(List.of(Optional.ofNullable(context.getCoreContext())
 					.map(c -> c.getVisibleElements(null)).orElse(new IJavaElement[0])));
@@ -88,26 +94,26 @@ public class Java8ProposalComputer extends AbstractSmartProposalComputer impleme
 
 			@NonNull
 			Stream<Entry<IJavaElement, IMethod>> methodReferences = !isPreceedMethodReferenceOpt(context)
-					? methodReferenceFinder.find(binding, elements, context)
+					? methodReferenceFinder.find(descriptor, elements, context)
 					: Stream.empty();
 
 			return Stream.concat(methodReferences.map(e -> {
 				try {
-					return Proposals.toMethodReferenceProposal(e.getKey(), e.getValue(), context, assistOptions);
+					return Proposals.toMethodReferenceProposal(e.getKey(), e.getValue(), context, matcher);
 				} catch (JavaModelException ex) {
 					Log.error(ex);
 					return null;
 				}
-			}).filter(Objects::nonNull), Proposals.toLambdaProposal((IMethod) binding.getJavaElement(), context));
+			}).filter(Objects::nonNull), Proposals.toLambdaProposal(descriptor.getMethod(), context));
 		} catch (JavaModelException e) {
 			logError(e);
 			return Stream.empty();
 		}
 	}
 
-	private Stream<IMethodBinding> functionalTypeMethod(ITypeBinding binding) {
+	private Optional<FunctionalDescriptor> functionalTypeMethod(ITypeBinding binding) {
 		if (!binding.isInterface()) {
-			return Stream.empty();
+			return Optional.empty();
 		}
 
 		List<IMethodBinding> candidates = Stream.of(binding.getDeclaredMethods()).filter(m -> {
@@ -120,10 +126,10 @@ public class Java8ProposalComputer extends AbstractSmartProposalComputer impleme
 			}
 		}).collect(Collectors.toList());
 
-		if (candidates.size() == 1) {
-			return candidates.stream();
+		if (candidates.size() == 1 && candidates.get(0).getJavaElement() != null) {
+			return Optional.of(FunctionalDescriptor.of(candidates.get(0)));
 		}
-		return Stream.empty();
+		return Optional.empty();
 	}
 
 	private boolean notIgnoredMethod(IMethodBinding method) throws JavaModelException {
@@ -134,13 +140,6 @@ public class Java8ProposalComputer extends AbstractSmartProposalComputer impleme
 	}
 
 	private List<IType> resolveInbuiltSuggestions(JavaContentAssistInvocationContext context) {
-		return InBuiltSuggestion.getMethodReferenceTypeSuggestions().stream().map(t -> {
-			try {
-				return context.getProject().findType(t);
-			} catch (JavaModelException ex) {
-				Log.error(ex);
-			}
-			return null;
-		}).filter(Objects::nonNull).collect(Collectors.toList());
+		return CorePlugin.getDefault().getInBuiltSuggestionCache().getMethodReferenceTypes(context.getProject());
 	}
 }
\ No newline at end of file
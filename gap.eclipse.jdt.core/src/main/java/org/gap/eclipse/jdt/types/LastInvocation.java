@@ -1,27 +1,65 @@
 package org.gap.eclipse.jdt.types;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
+/**
+ * Tracks repeated invocations at the same offset per compilation unit, so
+ * content assist in one editor does not reset the count of another. Only the
+ * most recently completed units are tracked.
+ */
 public final class LastInvocation {
-	private int lastOffset = -1;
-	private int hitcount = 0;
-
-	public boolean canPerformSecondarySearch(JavaContentAssistInvocationContext context) {
-		int invocationOffset = context.getInvocationOffset();
-		if (lastOffset == invocationOffset) {
-			hitcount++;
-			return hitcount >= 2;
+	private static final int MAX_UNITS = 16;
+
+	// access ordered, so the least recently completed unit is dropped first.
+	@SuppressWarnings("serial")
+	private final Map<ICompilationUnit, State> states = new LinkedHashMap<ICompilationUnit, State>(MAX_UNITS, 0.75f,
+			true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, State> eldest) {
+			return size() > MAX_UNITS;
 		}
-		lastOffset = invocationOffset;
-		hitcount = 1;
-		return false;
+	};
+
+	public synchronized boolean canPerformSecondarySearch(JavaContentAssistInvocationContext context) {
+		final ICompilationUnit unit = context.getCompilationUnit();
+		final State next = states.getOrDefault(unit, State.NONE).next(context.getInvocationOffset());
+		states.put(unit, next);
+		return next.hitcount >= 2;
 	}
 
-	public void reset() {
-		hitcount--;
+	public synchronized void reset(JavaContentAssistInvocationContext context) {
+		states.computeIfPresent(context.getCompilationUnit(), (unit, state) -> state.previous());
 	}
 
-	public boolean wasLastSecondarySearch() {
-		return hitcount >= 2;
+	public synchronized boolean wasLastSecondarySearch(JavaContentAssistInvocationContext context) {
+		final State state = states.get(context.getCompilationUnit());
+		return state != null && state.hitcount >= 2;
+	}
+
+	private static final class State {
+		private static final State NONE = new State(-1, 0);
+
+		private final int offset;
+		private final int hitcount;
+
+		State(int offset, int hitcount) {
+			this.offset = offset;
+			this.hitcount = hitcount;
+		}
+
+		State next(int invocationOffset) {
+			if (offset == invocationOffset) {
+				return new State(offset, hitcount + 1);
+			}
+			return new State(invocationOffset, 1);
+		}
+
+		State previous() {
+			return new State(offset, hitcount - 1);
+		}
 	}
 }
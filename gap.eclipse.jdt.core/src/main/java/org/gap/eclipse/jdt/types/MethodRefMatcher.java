@@ -0,0 +1,80 @@
+package org.gap.eclipse.jdt.types;
+
+import static org.eclipse.jdt.internal.codeassist.RelevanceConstants.R_CAMEL_CASE;
+import static org.eclipse.jdt.internal.codeassist.RelevanceConstants.R_SUBSTRING;
+import static org.eclipse.jdt.internal.codeassist.RelevanceConstants.R_SUBWORD;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.codeassist.impl.AssistOptions;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+/**
+ * Matches method reference display strings against the completion token. The
+ * token and the enabled match kinds are captured once per invocation, and names
+ * are copied into a reused buffer for camel case matching, so scoring a large
+ * number of candidates does not allocate.
+ */
+final class MethodRefMatcher {
+	static final int NO_MATCH = -1;
+
+	private final char[] token;
+	private final String tokenString;
+	private final boolean camelCaseMatch;
+	private final boolean substringMatch;
+	private final boolean subwordMatch;
+	private char[] nameBuffer = new char[64];
+
+	private MethodRefMatcher(char[] token, AssistOptions options) {
+		this.token = token;
+		this.tokenString = String.valueOf(token);
+		this.camelCaseMatch = options.camelCaseMatch;
+		this.substringMatch = options.substringMatch;
+		this.subwordMatch = options.subwordMatch;
+	}
+
+	static MethodRefMatcher of(JavaContentAssistInvocationContext context, AssistOptions options) {
+		if (context.getCoreContext() != null && context.getCoreContext().getToken() != null) {
+			return new MethodRefMatcher(context.getCoreContext().getToken(), options);
+		}
+		return new MethodRefMatcher(CharOperation.NO_CHAR, options);
+	}
+
+	boolean hasToken() {
+		return token.length > 0;
+	}
+
+	String getToken() {
+		return tokenString;
+	}
+
+	/**
+	 * Returns the relevance constant of the first matching kind in the order camel
+	 * case, prefix and substring, or {@link #NO_MATCH}.
+	 */
+	int match(String name) {
+		if (camelCaseMatch && isCamelCaseMatch(name)) {
+			return R_CAMEL_CASE;
+		} else if (substringMatch && name.startsWith(tokenString)) {
+			return R_SUBSTRING;
+		} else if (subwordMatch && name.contains(tokenString)) {
+			return R_SUBWORD;
+		}
+		return NO_MATCH;
+	}
+
+	private boolean isCamelCaseMatch(String name) {
+		final int length = name.length();
+		// camel case matching requires the first character to match exactly.
+		if (length == 0 || name.charAt(0) != token[0]) {
+			return false;
+		}
+
+		synchronized (this) {
+			if (nameBuffer.length < length) {
+				nameBuffer = new char[Math.max(length, nameBuffer.length * 2)];
+			}
+			name.getChars(0, length, nameBuffer, 0);
+			return CharOperation.camelCaseMatch(token, 0, token.length, nameBuffer, 0, length);
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package org.gap.eclipse.jdt.types;
 
+import java.util.AbstractMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNull;
@@ -15,16 +18,23 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
-import org.eclipse.jdt.core.dom.IMethodBinding;
-import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+import org.gap.eclipse.jdt.CorePlugin;
 import org.gap.eclipse.jdt.common.Log;
 
 @SuppressWarnings("restriction")
 public class MethodReferenceFinder {
+	private static final boolean TRACE_RESOLUTION = Boolean.getBoolean("org.gap.eclipse.jdt.types.traceTypeResolution");
 
-	public @NonNull Stream<Entry<IJavaElement, IMethod>> find(IMethodBinding binding,
+	// resolved types of visible elements for the current completion session.
+	private final Map<Entry<String, IType>, Optional<IType>> resolvedTypes = new ConcurrentHashMap<>();
+
+	private final AtomicInteger lookupCount = new AtomicInteger();
+
+	private final AtomicInteger savedLookupCount = new AtomicInteger();
+
+	public @NonNull Stream<Entry<IJavaElement, IMethod>> find(FunctionalDescriptor descriptor,
 			@NonNull List<IJavaElement> visibleElements, @NonNull JavaContentAssistInvocationContext context)
 			throws JavaModelException {
 		final boolean isInStaticContext = isInStaticContext(context.getCoreContext().getEnclosingElement());
@@ -36,29 +46,23 @@ public class MethodReferenceFinder {
 
 				if (e instanceof IField) {
 					IField field = (IField) e;
-					methods = methodsFromType(context, e, field.getTypeSignature(),
-							field.getTypeRoot().findPrimaryType());
+					methods = methodsFromType(e, resolveType(context, field.getTypeSignature(),
+							field.getTypeRoot().findPrimaryType()), descriptor, isInStaticContext);
 				} else if (e instanceof ILocalVariable) {
 					ILocalVariable localVariable = (ILocalVariable) e;
-					methods = methodsFromType(context, e, localVariable.getTypeSignature(),
-							localVariable.getTypeRoot().findPrimaryType());
+					methods = methodsFromType(e, resolveType(context, localVariable.getTypeSignature(),
+							localVariable.getTypeRoot().findPrimaryType()), descriptor, isInStaticContext);
 				} else if (e instanceof IType) {
 					// collect static methods only regardless our context
-					methods = Stream.of(((IType) e).getMethods()).filter(this::isStatic).map(m -> Map.entry(e, m));
+					methods = isInStaticContext ? methodsFromType(e, (IType) e, descriptor, true) : Stream.empty();
 				} else if (e instanceof IMethod) {
-					methods = Stream.of(Map.entry(e, (IMethod) e));
+					IMethod method = (IMethod) e;
+					methods = (isStatic(method) == isInStaticContext && Methods.notIgnoredMethod(method)
+							&& isMatchingMethod(descriptor, method)) ? Stream.of(Map.entry(e, method)) : Stream.empty();
 				} else {
 					methods = Stream.empty();
 				}
-
-				return methods.filter(me -> isStatic(me.getValue()) == isInStaticContext).filter(m -> {
-					try {
-						return Methods.notIgnoredMethod(m.getValue());
-					} catch (JavaModelException ex) {
-						Log.error(ex);
-						return false;
-					}
-				}).filter(me -> isMatchingMethod(binding, me.getValue()));
+				return methods;
 			} catch (JavaModelException ex) {
 				Log.error(ex);
 			}
@@ -75,19 +79,54 @@ public class MethodReferenceFinder {
 		}
 	}
 
-	protected Stream<Entry<IJavaElement, IMethod>> methodsFromType(JavaContentAssistInvocationContext context,
-			IJavaElement e, String typeSignature, IType primary) throws JavaModelException {
-		Stream<Entry<IJavaElement, IMethod>> methods;
+	protected IType resolveType(JavaContentAssistInvocationContext context, String typeSignature, IType primary)
+			throws JavaModelException {
+		final Entry<String, IType> key = new AbstractMap.SimpleImmutableEntry<>(typeSignature, primary);
+		final Optional<IType> resolved = resolvedTypes.get(key);
+		if (resolved != null) {
+			savedLookupCount.incrementAndGet();
+			return resolved.orElse(null);
+		}
+
+		lookupCount.incrementAndGet();
 		IType type = context.getProject().findType(JavaModelUtil.getResolvedTypeName(typeSignature, primary));
-		methods = Optional.ofNullable(type).stream().flatMap(t -> {
-			try {
-				return Stream.of(t.getMethods());
-			} catch (JavaModelException ex) {
-				Log.error(ex);
-				return Stream.empty();
-			}
-		}).map(m -> Map.entry(e, m));
-		return methods;
+		resolvedTypes.put(key, Optional.ofNullable(type));
+		return type;
+	}
+
+	/**
+	 * Returns the number of type lookups done in the current session.
+	 */
+	public int getLookupCount() {
+		return lookupCount.get();
+	}
+
+	/**
+	 * Returns the number of type lookups answered from the session cache in the
+	 * current session.
+	 */
+	public int getSavedLookupCount() {
+		return savedLookupCount.get();
+	}
+
+	public void sessionEnded() {
+		if (TRACE_RESOLUTION) {
+			CorePlugin.getDefault().logInfo(String.format("Method reference type resolution: %d lookups, %d saved",
+					lookupCount.get(), savedLookupCount.get()));
+		}
+		resolvedTypes.clear();
+		lookupCount.set(0);
+		savedLookupCount.set(0);
+	}
+
+	private Stream<Entry<IJavaElement, IMethod>> methodsFromType(IJavaElement e, IType type,
+			FunctionalDescriptor descriptor, boolean isInStaticContext) throws JavaModelException {
+		if (type == null) {
+			return Stream.empty();
+		}
+		return CorePlugin.getDefault().getMethodShapeCache().get(type).find(descriptor).stream()
+				.filter(s -> s.isStatic() == isInStaticContext && !s.isIgnored())
+				.map(s -> Map.entry(e, s.getMethod()));
 	}
 
 	private boolean isInStaticContext(IJavaElement enclosingElement) throws JavaModelException {
@@ -97,25 +136,19 @@ public class MethodReferenceFinder {
 		return false;
 	}
 
-	private boolean isMatchingMethod(IMethodBinding binding, IMethod m) {
+	private boolean isMatchingMethod(FunctionalDescriptor descriptor, IMethod m) {
 		try {
-			if(binding.getParameterTypes().length != m.getParameters().length) {
+			if(descriptor.getParameterCount() != m.getParameters().length) {
 				return false;
 			}
 			
-			for(int i = 0; i < binding.getParameterTypes().length; i++) {
-				ITypeBinding tb = binding.getParameterTypes()[i];
-				if (tb.isWildcardType() && tb.isUpperbound() && !tb.getBound().getName()
-						.equals(Signature.getSignatureSimpleName(m.getParameterTypes()[i]))) {
-					return false;
-				}
-
-				if (!tb.isTypeVariable() && !(tb.isWildcardType() && tb.isUpperbound())
-						&& !tb.getName().equals(Signature.getSignatureSimpleName(m.getParameterTypes()[i]))) {
+			for(int i = 0; i < descriptor.getParameterCount(); i++) {
+				String typeName = descriptor.getParameterTypeName(i);
+				if (typeName != null && !typeName.equals(Signature.getSignatureSimpleName(m.getParameterTypes()[i]))) {
 					return false;
 				}
 			}
-			return binding.getReturnType().getName().equals(Signature.getSignatureSimpleName(m.getReturnType()));
+			return descriptor.getReturnTypeName().equals(Signature.getSignatureSimpleName(m.getReturnType()));
 		} catch (JavaModelException e) {
 			Log.error(e);
 			return false;
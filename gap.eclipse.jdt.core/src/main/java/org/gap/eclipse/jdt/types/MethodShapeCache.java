@@ -0,0 +1,65 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.gap.eclipse.jdt.common.JavaModelChangeListener;
+import org.gap.eclipse.jdt.common.ManagedCache;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Cache of {@link MethodShapeIndex} per type. Indexes of source types are
+ * dropped when their compilation unit changes, all indexes of a project are
+ * dropped when its classpath changes.
+ */
+public final class MethodShapeCache extends JavaModelChangeListener implements ManagedCache {
+	private final Map<IType, MethodShapeIndex> indexes = new ConcurrentHashMap<>();
+
+	MethodShapeIndex get(IType type) throws JavaModelException {
+		MethodShapeIndex index = indexes.get(type);
+		if (index == null) {
+			index = MethodShapeIndex.of(type);
+			indexes.put(type, index);
+		}
+		return index;
+	}
+
+	@Override
+	public String getName() {
+		return "Method shapes";
+	}
+
+	@Override
+	public long getFootprint() {
+		return indexes.values().stream().mapToLong(i -> Weights.MAP_ENTRY + i.weight()).sum();
+	}
+
+	@Override
+	public long trim(long bytes) {
+		return ManagedCache.evict(indexes, e -> Weights.MAP_ENTRY + e.getValue().weight(), bytes);
+	}
+
+	@Override
+	public void clear() {
+		indexes.clear();
+	}
+
+	@Override
+	protected boolean isInterested() {
+		return !indexes.isEmpty();
+	}
+
+	@Override
+	protected void projectChanged(IJavaProject project) {
+		indexes.keySet().removeIf(t -> project.equals(t.getJavaProject()));
+	}
+
+	@Override
+	protected void compilationUnitChanged(ICompilationUnit unit, boolean exists) {
+		indexes.keySet().removeIf(t -> unit.equals(t.getCompilationUnit()));
+	}
+}
@@ -0,0 +1,148 @@
+package org.gap.eclipse.jdt.types;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.gap.eclipse.jdt.common.Log;
+import org.gap.eclipse.jdt.common.Weights;
+
+/**
+ * Methods of a type indexed by their shape, which is the arity, the parameter
+ * type simple names and the return type simple name. Method reference
+ * candidates for a {@link FunctionalDescriptor} are found by hash lookup
+ * instead of comparing every method of the type.
+ */
+final class MethodShapeIndex {
+	private static final char SEPARATOR = '|';
+
+	private final Map<String, List<Shape>> byShape = new HashMap<>();
+	private final Map<String, List<Shape>> byArityAndReturn = new HashMap<>();
+
+	private MethodShapeIndex() {
+	}
+
+	static MethodShapeIndex of(IType type) throws JavaModelException {
+		final MethodShapeIndex index = new MethodShapeIndex();
+		for (IMethod method : type.getMethods()) {
+			try {
+				index.add(new Shape(method));
+			} catch (JavaModelException e) {
+				Log.error(e);
+			}
+		}
+		return index;
+	}
+
+	private void add(Shape shape) {
+		final StringBuilder key = new StringBuilder(arityAndReturnKey(shape.parameterTypeNames.length,
+				shape.returnTypeName));
+		byArityAndReturn.computeIfAbsent(key.toString(), k -> new ArrayList<>(2)).add(shape);
+		for (String name : shape.parameterTypeNames) {
+			key.append(SEPARATOR).append(name);
+		}
+		byShape.computeIfAbsent(key.toString(), k -> new ArrayList<>(2)).add(shape);
+	}
+
+	/**
+	 * Returns the methods whose shape matches the descriptor. Type variable
+	 * parameters of the descriptor match any parameter type.
+	 */
+	List<Shape> find(FunctionalDescriptor descriptor) {
+		final StringBuilder key = new StringBuilder(arityAndReturnKey(descriptor.getParameterCount(),
+				descriptor.getReturnTypeName()));
+		boolean exact = true;
+		for (int i = 0; i < descriptor.getParameterCount(); i++) {
+			String name = descriptor.getParameterTypeName(i);
+			if (name == null) {
+				exact = false;
+				break;
+			}
+			key.append(SEPARATOR).append(name);
+		}
+
+		if (exact) {
+			return byShape.getOrDefault(key.toString(), Collections.emptyList());
+		}
+
+		final List<Shape> candidates = byArityAndReturn.getOrDefault(key.toString(), Collections.emptyList());
+		final List<Shape> result = new ArrayList<>(candidates.size());
+		for (Shape shape : candidates) {
+			if (shape.matchesParameters(descriptor)) {
+				result.add(shape);
+			}
+		}
+		return result;
+	}
+
+	long weight() {
+		long weight = Weights.OBJECT;
+		for (Map.Entry<String, List<Shape>> entry : byShape.entrySet()) {
+			weight += Weights.MAP_ENTRY + Weights.of(entry.getKey()) + Weights.array(entry.getValue().size() * (long) Weights.REFERENCE);
+			for (Shape shape : entry.getValue()) {
+				weight += shape.weight();
+			}
+		}
+		for (Map.Entry<String, List<Shape>> entry : byArityAndReturn.entrySet()) {
+			weight += Weights.MAP_ENTRY + Weights.of(entry.getKey()) + Weights.array(entry.getValue().size() * (long) Weights.REFERENCE);
+		}
+		return weight;
+	}
+
+	private static String arityAndReturnKey(int arity, String returnTypeName) {
+		return String.valueOf(arity).concat(String.valueOf(SEPARATOR)).concat(returnTypeName);
+	}
+
+	static final class Shape {
+		private final IMethod method;
+		private final boolean isStatic;
+		private final boolean ignored;
+		private final String[] parameterTypeNames;
+		private final String returnTypeName;
+
+		private Shape(IMethod method) throws JavaModelException {
+			this.method = method;
+			this.isStatic = Flags.isStatic(method.getFlags());
+			this.ignored = !Methods.notIgnoredMethod(method);
+			final String[] parameterTypes = method.getParameterTypes();
+			this.parameterTypeNames = new String[parameterTypes.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				parameterTypeNames[i] = Signature.getSignatureSimpleName(parameterTypes[i]);
+			}
+			this.returnTypeName = Signature.getSignatureSimpleName(method.getReturnType());
+		}
+
+		private long weight() {
+			return Weights.OBJECT + Weights.HANDLE + Weights.of(parameterTypeNames) + Weights.of(returnTypeName);
+		}
+
+		private boolean matchesParameters(FunctionalDescriptor descriptor) {
+			for (int i = 0; i < parameterTypeNames.length; i++) {
+				String name = descriptor.getParameterTypeName(i);
+				if (name != null && !name.equals(parameterTypeNames[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		public IMethod getMethod() {
+			return method;
+		}
+
+		public boolean isStatic() {
+			return isStatic;
+		}
+
+		public boolean isIgnored() {
+			return ignored;
+		}
+	}
+}
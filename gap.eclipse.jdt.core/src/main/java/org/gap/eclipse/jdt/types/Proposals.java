@@ -19,7 +19,6 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.internal.codeassist.impl.AssistOptions;
 import org.eclipse.jdt.internal.ui.text.java.FillArgumentNamesCompletionProposalCollector;
 import org.eclipse.jdt.internal.ui.text.java.LazyGenericTypeProposal;
 import org.eclipse.jdt.internal.ui.text.java.LazyJavaTypeCompletionProposal;
@@ -55,21 +54,20 @@ public final class Proposals {
 	}
 
 	static ICompletionProposal toMethodReferenceProposal(IJavaElement qualifier, IMethod method,
-			JavaContentAssistInvocationContext context, AssistOptions assistOptions) throws JavaModelException {
+			JavaContentAssistInvocationContext context, MethodRefMatcher matcher) throws JavaModelException {
 		MethodRefCompletionProposal proposal;
 		if (qualifier instanceof IMethod) {
 			if (Flags.isStatic(method.getFlags())) {
 				proposal = new MethodRefCompletionProposal(method.getDeclaringType().getElementName(),
-						method.getElementName(), getToken(context), context);
+						method.getElementName(), matcher.getToken(), context);
 			} else {
-				proposal = new MethodRefCompletionProposal("this", method.getElementName(), getToken(context), context);
+				proposal = new MethodRefCompletionProposal("this", method.getElementName(), matcher.getToken(), context);
 			}
 		} else {
 			proposal = new MethodRefCompletionProposal(qualifier.getElementName(), method.getElementName(),
-					getToken(context), context);
+					matcher.getToken(), context);
 		}
-		proposal.setRelevance(
-				computeMethodRefRelavance(proposal.getDisplayString(), context, assistOptions));
+		proposal.setRelevance(computeMethodRefRelavance(proposal.getDisplayString(), matcher));
 		proposal.setMatchRule(deriveMatchRule(proposal.getRelevance()));
 
 		return proposal;
@@ -96,21 +94,10 @@ public final class Proposals {
 		}
 	}
 
-	private static int computeMethodRefRelavance(String proposalName, JavaContentAssistInvocationContext context,
-			AssistOptions options) {
-		if (hasToken(context)) {
-			char[] token = context.getCoreContext().getToken();
-			String tokenStr = String.valueOf(token);
-
-			if (options.camelCaseMatch && CharOperation.camelCaseMatch(token, proposalName.toCharArray())) {
-				return R_METHOD_REF + R_CAMEL_CASE;
-			} else if (options.substringMatch && proposalName.startsWith(tokenStr)) {
-				return R_METHOD_REF + R_SUBSTRING;
-			} else if (options.subwordMatch && proposalName.contains(tokenStr)) {
-				return R_METHOD_REF + R_SUBWORD;
-			} else {
-				return R_DEFAULT;
-			}
+	private static int computeMethodRefRelavance(String proposalName, MethodRefMatcher matcher) {
+		if (matcher.hasToken()) {
+			int match = matcher.match(proposalName);
+			return match == MethodRefMatcher.NO_MATCH ? R_DEFAULT : R_METHOD_REF + match;
 		}
 		return R_METHOD_REF;
 	}
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -17,12 +18,9 @@ import java.util.stream.Stream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.CompletionProposal;
-import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
@@ -47,6 +45,10 @@ public class SmartEnumLiteralProposalComputer extends AbstractSmartProposalCompu
 	@Override
 	public List<ICompletionProposal> computeSmartCompletionProposals(JavaContentAssistInvocationContext context,
 			IProgressMonitor monitor) {
+		if (context.getProject() != null) {
+			// build the implementor index on the first completion in the project, not the first interface typed argument.
+			CorePlugin.getDefault().getEnumImplementorIndex().prepare(context.getProject());
+		}
 		if (context.getExpectedType() == null) {
 			return searchFromAST(context, monitor);
 		}
@@ -60,50 +62,16 @@ public class SmartEnumLiteralProposalComputer extends AbstractSmartProposalCompu
 			.filter(t -> !isUnsupportedType(t.getFullyQualifiedName()))
 			.flatMap(t -> {
 					try {
-						if(t.isInterface() && lastInvocation.canPerformSecondarySearch(context)) {
-							ExecutorService executor = Executors.newSingleThreadExecutor();
-							final Set<IType> types = Collections.synchronizedSet(new HashSet<>());
-							
-							Future<?> future = executor.submit(() -> {
-								SearchPattern pattern = SearchPattern.createPattern(t, IJavaSearchConstants.IMPLEMENTORS);
-								SearchEngine engine = new SearchEngine();
-								try {
-									engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant()}, 
-											SearchEngine.createJavaSearchScope(new IJavaElement[] { context.getProject() }), new SearchRequestor() {
-
-												@Override
-												public void acceptSearchMatch(SearchMatch match) throws CoreException {
-													if(match.getAccuracy() == SearchMatch.A_ACCURATE &&
-															match.getElement() instanceof IType) {
-														types.add((IType) match.getElement());
-													}
-												}
-									}, monitor);
-								} catch (CoreException e) {
-									CorePlugin.getDefault().logError(e.getMessage(), e);
-								}
-							});
-							
-							try {
-								if (isAsyncCompletionActive(context)) {
-									future.get();
-								} else {
-									future.get(TIMEOUT, TimeUnit.SECONDS);
-								}
-							} catch (TimeoutException e) {
-								lastInvocation.reset(); // we don't want a expanded search in next try.
-							} catch (InterruptedException e) {
-								CorePlugin.getDefault().logError(e.getMessage(), e);
-								Thread.currentThread().interrupt();
-							} catch (Exception e) {
-								CorePlugin.getDefault().logError(e.getMessage(), e);
-							} finally {
-								executor.shutdown();
+						if(t.isInterface()) {
+							Optional<Set<IType>> indexed = CorePlugin.getDefault().getEnumImplementorIndex()
+									.findImplementingEnums(t, context.getProject());
+							if (indexed.isPresent()) {
+								return indexed.get().stream();
+							} else if (lastInvocation.canPerformSecondarySearch(context)) {
+								return searchImplementors(t, context, monitor).stream();
 							}
-							return types.stream();
-						} else {
-							return Stream.of(t);
 						}
+						return Stream.of(t);
 					} catch (CoreException e) {
 						CorePlugin.getDefault().logError(e.getMessage(), e);
 					}
@@ -123,41 +91,69 @@ public class SmartEnumLiteralProposalComputer extends AbstractSmartProposalCompu
 			.collect(Collectors.toList());
 	}
 
-	private List<ICompletionProposal> createEnumProposals(JavaContentAssistInvocationContext context,
-			final IType expectedType) throws JavaModelException {
-		Set<IField> literals = Arrays.stream(expectedType.getChildren())
-				.filter(e -> {
-					try {
-						return (e.getElementType() == IJavaElement.FIELD) && Flags.isPublic(((IField)e).getFlags()) && !e.getElementName().equals("$VALUES");
-					} catch (JavaModelException e1) {
-						CorePlugin.getDefault().logError(e1.getMessage(), e1);
-					}
-					return false;
-				})
-				.map(e -> (IField) e).collect(Collectors.toSet());
-		return createEnumProposals(literals, context);
+	private Set<IType> searchImplementors(IType interfaceType, JavaContentAssistInvocationContext context,
+			IProgressMonitor monitor) {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		final Set<IType> types = Collections.synchronizedSet(new HashSet<>());
+		
+		Future<?> future = executor.submit(() -> {
+			SearchPattern pattern = SearchPattern.createPattern(interfaceType, IJavaSearchConstants.IMPLEMENTORS);
+			SearchEngine engine = new SearchEngine();
+			try {
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant()}, 
+						SearchEngine.createJavaSearchScope(new IJavaElement[] { context.getProject() }), new SearchRequestor() {
+
+							@Override
+							public void acceptSearchMatch(SearchMatch match) throws CoreException {
+								if(match.getAccuracy() == SearchMatch.A_ACCURATE &&
+										match.getElement() instanceof IType) {
+									types.add((IType) match.getElement());
+								}
+							}
+				}, monitor);
+			} catch (CoreException e) {
+				CorePlugin.getDefault().logError(e.getMessage(), e);
+			}
+		});
+		
+		try {
+			if (isAsyncCompletionActive(context)) {
+				future.get();
+			} else {
+				future.get(TIMEOUT, TimeUnit.SECONDS);
+			}
+		} catch (TimeoutException e) {
+			lastInvocation.reset(context); // we don't want a expanded search in next try.
+		} catch (InterruptedException e) {
+			CorePlugin.getDefault().logError(e.getMessage(), e);
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			CorePlugin.getDefault().logError(e.getMessage(), e);
+		} finally {
+			executor.shutdown();
+		}
+		return types;
 	}
 
-	private List<ICompletionProposal> createEnumProposals(Set<IField> literals,
-			JavaContentAssistInvocationContext context) {
+	private List<ICompletionProposal> createEnumProposals(JavaContentAssistInvocationContext context,
+			final IType expectedType) throws JavaModelException {
+		final EnumLiteralTable literals = CorePlugin.getDefault().getEnumLiteralCache().get(expectedType);
 		final ArrayList<ICompletionProposal> response = new ArrayList<>(literals.size());
 		try {
-			for (IField field : literals) {
+			final CompletionProposal importProposal = createImportProposal(context, literals.getEnumType());
+			for (int i = 0; i < literals.size(); i++) {
 				CompletionProposal proposal = CompletionProposal.create(CompletionProposal.FIELD_REF,
 						context.getInvocationOffset());
-				String fullyQualifiedName = field.getDeclaringType().getElementName().concat(".")
-						.concat(field.getElementName());
-				proposal.setName(field.getElementName().toCharArray());
+				String fullyQualifiedName = literals.getTypeName().concat(".").concat(literals.getName(i));
+				proposal.setName(literals.getName(i).toCharArray());
 				proposal.setCompletion(fullyQualifiedName.toCharArray());
-				proposal.setDeclarationSignature(Signature
-						.createTypeSignature(field.getDeclaringType().getFullyQualifiedName(), true).toCharArray());
-				proposal.setFlags(field.getFlags());
+				proposal.setDeclarationSignature(literals.getDeclarationSignature());
+				proposal.setFlags(literals.getFlags(i));
 				float relevance = context.getHistoryRelevance(fullyQualifiedName);
 				proposal.setRelevance((int) (1000 * (relevance < 0.1 ? 0.1 : relevance)));
 				proposal.setReplaceRange(context.getInvocationOffset(), ContextUtils.computeEndOffset(context));
-				proposal.setSignature(field.getTypeSignature().toCharArray());
-				proposal.setRequiredProposals(
-						new CompletionProposal[] { createImportProposal(context, field.getDeclaringType()) });
+				proposal.setSignature(literals.getTypeSignature(i).toCharArray());
+				proposal.setRequiredProposals(new CompletionProposal[] { importProposal });
 
 				CompletionProposalCollector collector = new CompletionProposalCollector(context.getCompilationUnit());
 				collector.setInvocationContext(context);
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,12 +19,24 @@ import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.gap.eclipse.jdt.common.Log;
+import org.gap.eclipse.jdt.common.SignaturePool;
 
 public class SmartTypeProposalComputer extends AbstractSmartProposalComputer
 		implements IJavaCompletionProposalComputer {
 
 	public static final String CATEGORY_ID = "gap.eclipse.jdt.proposalCategory.smartSubType";
 
+	private static final UnaryOperator<String> EXPECTED_TYPE_FQN = SignaturePool.memoize(sig -> {
+		boolean arrayType = Signature.getTypeSignatureKind(sig) == Signature.ARRAY_TYPE_SIGNATURE;
+		String qualifier = Signature.getSignatureQualifier(sig);
+		if (!qualifier.isEmpty()) {
+			qualifier = qualifier.concat(".");
+		}
+		return qualifier.concat(arrayType
+				? Signature.getSignatureSimpleName(Signature.getTypeErasure(Signature.getElementType(sig)))
+				: Signature.getSignatureSimpleName(Signature.getTypeErasure((sig))));
+	});
+
 	private SubTypeFinder subTypeFinder = new SubTypeFinder();
 
 	private LastInvocation lastInvocation = new LastInvocation();
@@ -37,16 +50,7 @@ public class SmartTypeProposalComputer extends AbstractSmartProposalComputer
 				return Stream.of(expectedTypes).map(t -> {
 					String sig = String.valueOf(t);
 					boolean arrayType = Signature.getTypeSignatureKind(t) == Signature.ARRAY_TYPE_SIGNATURE;
-					String qualifier = Signature.getSignatureQualifier(sig);
-					if (!qualifier.isEmpty()) {
-						qualifier = qualifier.concat(".");
-					}
-					String fqn = qualifier
-							.concat(arrayType
-									? Signature.getSignatureSimpleName(
-											Signature.getTypeErasure(Signature.getElementType(sig)))
-									: Signature.getSignatureSimpleName(Signature.getTypeErasure((sig))));
-					return Map.entry(fqn, arrayType);
+					return Map.entry(EXPECTED_TYPE_FQN.apply(sig), arrayType);
 				}).filter(e -> !isUnsupportedType(e.getKey()) || e.getValue())
 				.flatMap(e -> {
 							Code ptype = PrimitiveType.toCode(e.getKey());
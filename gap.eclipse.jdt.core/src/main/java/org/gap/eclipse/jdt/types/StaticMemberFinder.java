@@ -35,6 +35,7 @@ import org.eclipse.jdt.internal.core.search.JavaSearchScope;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.gap.eclipse.jdt.CorePlugin;
+import org.gap.eclipse.jdt.common.SignaturePool;
 import org.gap.eclipse.jdt.common.Signatures;
 
 import com.google.common.base.Predicates;
@@ -54,7 +55,7 @@ public class StaticMemberFinder {
 		boolean expandSubTypes = false;		
 	
 		if (lastInvocation.canPerformSecondarySearch(context)) {
-			if(!lastInvocation.wasLastSecondarySearch()) {
+			if(!lastInvocation.wasLastSecondarySearch(context)) {
 				cachedSearchParticipant.resetCache();
 			}
 			
@@ -71,7 +72,7 @@ public class StaticMemberFinder {
 		final IJavaProject project = context.getCompilationUnit().getJavaProject();
 		return expectedTypeFQNs.stream().parallel().flatMap(type -> {
 			try {
-				IType foundType = project.findType(Signature.getTypeErasure(type), monitor);
+				IType foundType = project.findType(SignaturePool.erasure(type), monitor);
 				return Stream.of(foundType.newTypeHierarchy(project, monitor).getAllSubtypes(foundType))
 						.filter(t -> Signatures.isNoOfTypeParametersEqual(t,type));
 			} catch (CoreException e) {
@@ -80,7 +81,7 @@ public class StaticMemberFinder {
 			return Stream.empty();
 		}).map(t -> {
 			try {
-				return t.getFullyQualifiedParameterizedName().replace('$', '.');
+				return SignaturePool.intern(t.getFullyQualifiedParameterizedName().replace('$', '.'));
 			} catch (CoreException e) {
 				CorePlugin.getDefault().logError(e.getMessage(), e);
 				return null;
@@ -108,21 +109,16 @@ public class StaticMemberFinder {
 		return new MessageCompletionProposal(member.getElementName());
 	}
 
-	private boolean onlyPublicStatic(IMember member) {
-		try {
-			return Flags.isStatic(member.getFlags()) && Flags.isPublic(member.getFlags())
-					&& Flags.isPublic(member.getDeclaringType().getFlags());
-		} catch (JavaModelException e) {
-			CorePlugin.getDefault().logError(e.getMessage(), e);
-			return false;
-		}
+	private boolean onlyPublicStatic(CachedMember member) {
+		return Flags.isStatic(member.getFlags()) && Flags.isPublic(member.getFlags())
+				&& Flags.isPublic(member.getDeclaringTypeFlags());
 	}
 
-	private boolean matchReturnTypeIfMethod(IMember member, List<String> typeSigs,
+	private boolean matchReturnTypeIfMethod(CachedMember member, List<String> typeSigs,
 			JavaContentAssistInvocationContext context, IProgressMonitor monitor) {
 		try {
-			if (member instanceof IMethod) {
-				String type = Signatures.getFullQualifiedResolvedReturnType((IMethod) member);
+			if (member.isMethod()) {
+				String type = member.getReturnType();
 
 				for (String typeSig : typeSigs) {
 					if (Signature.getTypeSignatureKind(type) == Signature.getTypeSignatureKind(typeSig)
@@ -158,10 +154,6 @@ public class StaticMemberFinder {
 				.allMatch(k -> (k == Signature.WILDCARD_TYPE_SIGNATURE || k == Signature.TYPE_VARIABLE_SIGNATURE));
 	}
 
-	private boolean matchingElement(SearchMatch match) {
-		return match.getElement() instanceof IMethod || match.getElement() instanceof IField;
-	}
-
 	@SuppressWarnings("deprecation")
 	private Stream<IMember> performSearch(List<String> typeFQNs, JavaContentAssistInvocationContext context,
 			IProgressMonitor monitor, Duration timeout, boolean extendedSearch, boolean expandSubTypes) {
@@ -169,7 +161,8 @@ public class StaticMemberFinder {
 		final SearchEngine engine = new SearchEngine();
 
 		final ExecutorService executor = Executors.newSingleThreadExecutor();
-		final Set<IMember> resultAccumerlator = Collections.synchronizedSet(new HashSet<>());
+		final Set<CachedMember> resultAccumerlator = Collections.synchronizedSet(new HashSet<>());
+		final List<IMember> messages = new ArrayList<>(2);
 		
 		Future<?> task = executor.submit(() -> {
 			try {
@@ -182,7 +175,7 @@ public class StaticMemberFinder {
 				int searchInMask = JavaSearchScope.SYSTEM_LIBRARIES | JavaSearchScope.SOURCES;
 
 				final List<String> typeSigs = expectedTypeFQNs.isEmpty() ? Collections.emptyList()
-						: expectedTypeFQNs.stream().map(f -> Signature.createTypeSignature(f, true))
+						: expectedTypeFQNs.stream().map(SignaturePool::typeSignature)
 								.collect(Collectors.toList());
 				if (!expectedTypeFQNs.isEmpty()) {
 					for (String fqn : expectedTypeFQNs) {
@@ -219,22 +212,19 @@ public class StaticMemberFinder {
 				final int includeMask = searchInMask;
 
 
-				cachedSearchParticipant.beforeSearch(expectedTypeFQNs, new String(context.getCoreContext().getToken()));
+				final CachedSearchParticipant.Search participant = cachedSearchParticipant.beforeSearch(expectedTypeFQNs,
+						new String(context.getCoreContext().getToken()));
 				
 				searchJobTracker.startTracking();
-				engine.search(finalPattern, new SearchParticipant[] { cachedSearchParticipant },
+				engine.search(finalPattern, new SearchParticipant[] { participant },
 						SearchEngine.createJavaSearchScope(new IJavaElement[] { context.getProject() }, includeMask),
 						new SearchRequestor() {
 							@Override
 							public void acceptSearchMatch(SearchMatch match) throws CoreException {
-								cachedSearchParticipant.cacheMatch(match);
-								if (matchingElement(match)) {
-									final IMember member = (IMember) match.getElement();
-									if (onlyPublicStatic(member)
-											&& (typeSigs.isEmpty()
-													|| matchReturnTypeIfMethod(member, typeSigs, context, monitor))) {
-										resultAccumerlator.add((IMember) match.getElement());
-									}
+								final CachedMember member = participant.cacheMatch(match);
+								if (member != null && onlyPublicStatic(member) && (typeSigs.isEmpty()
+										|| matchReturnTypeIfMethod(member, typeSigs, context, monitor))) {
+									resultAccumerlator.add(member);
 								}
 							}
 
@@ -257,10 +247,10 @@ public class StaticMemberFinder {
 			}
 		} catch (TimeoutException e) {
 			// do nothing since we return what we have collected so far.
-			lastInvocation.reset(); // we don't want a expanded search in next try.
+			lastInvocation.reset(context); // we don't want a expanded search in next try.
 			if(resultAccumerlator.isEmpty()) {
-				resultAccumerlator.add(new MessageCompletionMember("Searching for static references ⌛"));
-				resultAccumerlator.add(new MessageCompletionMember("Try again after static search finish"));
+				messages.add(new MessageCompletionMember("Searching for static references ⌛"));
+				messages.add(new MessageCompletionMember("Try again after static search finish"));
 			}
 		} catch (InterruptedException e) {
 			CorePlugin.getDefault().logError(e.getMessage(), e);
@@ -271,7 +261,9 @@ public class StaticMemberFinder {
 			executor.shutdown();
 		}
 
-		// copy and create a stream.
-		return new ArrayList<>(resultAccumerlator).stream().limit(100).parallel();
+		// copy and create a stream, members are only recreated for the proposals shown.
+		final List<IMember> members = new ArrayList<>(messages);
+		new ArrayList<>(resultAccumerlator).stream().limit(100).map(CachedMember::toMember).forEach(members::add);
+		return members.stream().parallel();
 	}
 }
@@ -1,7 +1,13 @@
 package org.gap.eclipse.jdt.common;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.Signature;
 import org.junit.Test;
@@ -85,4 +91,98 @@ public class SignaturesAssignableTest {
 		String toSig = Signature.createTypeSignature("java.lang.List<E>", true);
 		assertTrue("Signatures are not assignale", Signatures.isAssignable(sig, toSig));
 	}
+
+	@Test
+	public void testSameResultAsSignatureApi() {
+		for (String sig : CORPUS) {
+			for (String toSig : CORPUS) {
+				assertEquals(sig + " -> " + toSig, isAssignableWithSignatureApi(sig, toSig),
+						Signatures.isAssignable(sig, toSig));
+			}
+		}
+	}
+
+	/**
+	 * Compares the cursor with the Signature API over the corpus. Timings are only
+	 * reported, not asserted, and the benchmark only runs with
+	 * <code>-Dorg.gap.eclipse.jdt.benchmark=true</code>.
+	 */
+	@Test
+	public void testBenchmarkAgainstSignatureApi() {
+		assumeTrue(Boolean.getBoolean("org.gap.eclipse.jdt.benchmark"));
+		final int rounds = 2000;
+		long[] times = new long[2];
+		int[] assignable = new int[2];
+		for (int warmup = 0; warmup < 2; warmup++) {
+			times[0] = System.nanoTime();
+			assignable[0] = 0;
+			for (int i = 0; i < rounds; i++) {
+				for (String sig : CORPUS) {
+					for (String toSig : CORPUS) {
+						assignable[0] += isAssignableWithSignatureApi(sig, toSig) ? 1 : 0;
+					}
+				}
+			}
+			times[0] = System.nanoTime() - times[0];
+
+			times[1] = System.nanoTime();
+			assignable[1] = 0;
+			for (int i = 0; i < rounds; i++) {
+				for (String sig : CORPUS) {
+					for (String toSig : CORPUS) {
+						assignable[1] += Signatures.isAssignable(sig, toSig) ? 1 : 0;
+					}
+				}
+			}
+			times[1] = System.nanoTime() - times[1];
+		}
+
+		assertEquals(assignable[0], assignable[1]);
+		System.out.println(String.format("isAssignable: Signature API %dms, cursor %dms", times[0] / 1_000_000,
+				times[1] / 1_000_000));
+	}
+
+	private static final List<String> CORPUS = Stream.of("java.lang.List", "java.lang.Set", "java.lang.List<String>",
+			"java.lang.List<E>", "java.lang.List<? extends E>", "java.lang.List<java.lang.String>",
+			"java.lang.Set<java.lang.String>", "java.lang.List<? extends java.lang.String>",
+			"java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>", "java.util.Map<K, V>",
+			"java.util.Map.Entry<java.lang.String, V>", "java.util.Map$Entry<K, V>", "java.util.List<int[]>",
+			"java.util.List<?>", "java.util.List<? super java.lang.Integer>")
+			.map(n -> Signature.createTypeSignature(n, true)).collect(Collectors.toList());
+
+	// the implementation before signatures were compared using SignatureCursor.
+	private static boolean isAssignableWithSignatureApi(String signature, String toSignature) {
+		if (!Signature.getTypeErasure(signature).equals(Signature.getTypeErasure(toSignature))) {
+			return false;
+		}
+
+		String[] sigArguments = Signature.getTypeArguments(signature);
+		String[] toArguments = Signature.getTypeArguments(toSignature);
+
+		if (toArguments.length > 0 && sigArguments.length != toArguments.length) {
+			return false;
+		}
+
+		for (int i = 0; i < toArguments.length; i++) {
+			final String toArg = toArguments[i];
+			final String sigArg = sigArguments[i];
+
+			if (!toArg.equals(sigArg)) {
+				int startSigOffset = 0;
+				if (sigArg.startsWith("+")) {
+					startSigOffset = 1;
+				}
+				if (!Signature.getSignatureQualifier(sigArg.substring(startSigOffset)).isEmpty()) {
+					if (Signature.getSignatureQualifier(toArg).isEmpty()) {
+						return true;
+					}
+
+					if (!toArg.equals(sigArg.substring(startSigOffset))) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
 }
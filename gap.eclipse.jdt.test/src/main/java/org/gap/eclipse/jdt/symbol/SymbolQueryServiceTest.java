@@ -0,0 +1,165 @@
+package org.gap.eclipse.jdt.symbol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SymbolQueryServiceTest {
+
+	private IJavaProject project;
+	private IPackageFragmentRoot javaSrc;
+	private IPackageFragment pkg;
+	private IJavaSearchScope scope;
+	private MemberNameIndex index;
+	private PartitionedSearch partitionedSearch;
+	private SymbolQueryService service;
+
+	@Before
+	public void before() throws CoreException {
+		project = JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(project);
+		javaSrc = JavaProjectHelper.addSourceContainer(project, "src");
+		pkg = javaSrc.createPackageFragment("symbol.test", false, null);
+
+		StringBuilder code = new StringBuilder();
+		code.append("package symbol.test;\n");
+		code.append("public class MyService {\n");
+		code.append("  private int handledCount;\n");
+		code.append("  public void handle(String request) {}\n");
+		code.append("  public void handleAll() {}\n");
+		code.append("  public void hasNoHandler() {}\n");
+		code.append("}\n");
+		pkg.createCompilationUnit("MyService.java", code.toString(), false, null);
+
+		scope = SearchEngine.createJavaSearchScope(new IJavaElement[] { javaSrc });
+		index = new MemberNameIndex();
+		partitionedSearch = new PartitionedSearch();
+		service = new SymbolQueryService(index, new TypeNameCache(), partitionedSearch);
+		JavaCore.addElementChangedListener(index);
+	}
+
+	@After
+	public void after() throws CoreException {
+		JavaCore.removeElementChangedListener(index);
+		index.clear();
+		partitionedSearch.dispose();
+		JavaProjectHelper.delete(project);
+	}
+
+	@Test
+	public void query_MemberNamePrefix() throws Exception {
+		assertEquals(List.of("handle", "handleAll", "handledCount"), query("handle", scope, 100));
+	}
+
+	@Test
+	public void query_QualifiedByDeclaringType() throws Exception {
+		assertEquals(List.of("handleAll"), query("MyService.handleA", scope, 100));
+	}
+
+	@Test
+	public void query_UnknownDeclaringType() throws Exception {
+		assertTrue(query("NoSuchService.handle", scope, 100).isEmpty());
+	}
+
+	@Test
+	public void query_CamelCase() throws Exception {
+		assertEquals(List.of("hasNoHandler"), query("hNH", scope, 100));
+	}
+
+	@Test
+	public void query_Wildcard() throws Exception {
+		assertEquals(List.of("handledCount"), query("handle*Count", scope, 100));
+	}
+
+	@Test
+	public void query_StopsAtLimit() throws Exception {
+		final List<IMember> found = new CopyOnWriteArrayList<>();
+		assertTrue(service.query("handle", scope, 1, found::add, new NullProgressMonitor()));
+		// the search might report members which were outranked later, the best one is always reported.
+		assertTrue(found.stream().map(IMember::getElementName).anyMatch("handle"::equals));
+	}
+
+	@Test
+	public void query_NotTruncatedBelowLimit() throws Exception {
+		assertFalse(service.query("hasNo", scope, 100, m -> {
+		}, new NullProgressMonitor()));
+	}
+
+	@Test
+	public void find_DeletedPackage() throws Exception {
+		index.prepare();
+		index.join();
+		assertEquals(List.of("handle", "handleAll", "handledCount"), find("handle", scope));
+
+		pkg.delete(true, null);
+		assertTrue(find("handle", scope).isEmpty());
+	}
+
+	@Test
+	public void find_ClasspathChangedKeepsIndex() throws Exception {
+		index.prepare();
+		index.join();
+
+		IPackageFragmentRoot otherSrc = JavaProjectHelper.addSourceContainer(project, "other");
+		// the index is not dropped, so it still answers while the project is indexed again.
+		final IJavaSearchScope sources = SearchEngine.createJavaSearchScope(new IJavaElement[] { javaSrc, otherSrc });
+		assertEquals(List.of("handle", "handleAll", "handledCount"), find("handle", sources));
+
+		otherSrc.createPackageFragment("symbol.other", false, null).createCompilationUnit("Other.java",
+				"package symbol.other;\npublic class Other {\n  public void handleOther() {}\n}\n", false, null);
+		index.join();
+		assertEquals(List.of("handle", "handleAll", "handleOther", "handledCount"), find("handle", sources));
+	}
+
+	private List<String> find(String memberName, IJavaSearchScope scope) {
+		final List<String> names = new ArrayList<>();
+		assertTrue(index.find(memberName, scope, m -> names.add(m.getElementName()), new NullProgressMonitor()));
+		return names;
+	}
+
+	/**
+	 * Queries with the search while the index build is held back, then with the
+	 * built index, and checks that both find the same members.
+	 */
+	private List<String> query(String pattern, IJavaSearchScope scope, int limit) throws Exception {
+		final List<String> searched;
+		Job.getJobManager().suspend();
+		try {
+			searched = queryNames(pattern, scope, limit);
+		} finally {
+			Job.getJobManager().resume();
+		}
+		index.prepare();
+		index.join();
+		final List<String> indexed = queryNames(pattern, scope, limit);
+		assertEquals("index and search differ for " + pattern, searched, indexed);
+		return indexed;
+	}
+
+	private List<String> queryNames(String pattern, IJavaSearchScope scope, int limit) throws CoreException {
+		final List<IMember> found = new CopyOnWriteArrayList<>();
+		service.query(pattern, scope, limit, found::add, new NullProgressMonitor());
+		return found.stream().map(IMember::getElementName).sorted().collect(Collectors.toList());
+	}
+}
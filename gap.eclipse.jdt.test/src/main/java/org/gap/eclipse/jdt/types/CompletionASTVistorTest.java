@@ -362,6 +362,73 @@ public class CompletionASTVistorTest {
 		assertTrue("Expected Types are not empty", visitor.getExpectedTypes().isEmpty());
 	}
 
+	@Test
+	public void getExpectedTypes_LambdaArgumentBeforeOffset_ExpectZeroTypes() throws Exception {
+		StringBuilder code = new StringBuilder();
+		code.append("package completion.test;\n");
+		code.append("import java.util.function.Function;\n");
+		code.append("public class ASTFile {\n");
+		code.append("  public String test(Function<String, Integer> f, java.util.List<String> list) {\n");
+		code.append("  	return null;\n");
+		code.append("  }\n");
+		code.append("  public String foo() {\n");
+		code.append("  	return test(s -> s.length(), $);\n");
+		code.append("  }\n");
+		code.append("}\n");
+
+		int index = getCompletionIndex(code);
+		ICompilationUnit cu = getCompilationUnit(pkg, code, "ASTFile.java");
+
+		CompletionASTVistor visitor = getVisitedVistor(cu, index);
+
+		assertTrue("Expected Types are not empty", visitor.getExpectedTypes().isEmpty());
+	}
+
+	@Test
+	public void getExpectedTypes_PostfixArgumentBeforeOffset_ExpectZeroTypes() throws Exception {
+		StringBuilder code = new StringBuilder();
+		code.append("package completion.test;\n");
+		code.append("public class ASTFile {\n");
+		code.append("  public String test(int x, java.util.List<String> list) {\n");
+		code.append("  	return null;\n");
+		code.append("  }\n");
+		code.append("  public String foo(int i) {\n");
+		code.append("  	return test(i++, $);\n");
+		code.append("  }\n");
+		code.append("}\n");
+
+		int index = getCompletionIndex(code);
+		ICompilationUnit cu = getCompilationUnit(pkg, code, "ASTFile.java");
+
+		CompletionASTVistor visitor = getVisitedVistor(cu, index);
+
+		assertTrue("Expected Types are not empty", visitor.getExpectedTypes().isEmpty());
+	}
+
+	@Test
+	public void getExpectedTypes_LambdaStatementBeforeInvocation_ExpectList() throws Exception {
+		StringBuilder code = new StringBuilder();
+		code.append("package completion.test;\n");
+		code.append("public class ASTFile {\n");
+		code.append("  public String test(java.util.List<String> list) {\n");
+		code.append("  	return null;\n");
+		code.append("  }\n");
+		code.append("  public String foo(int i) {\n");
+		code.append("  	Runnable r = () -> {};\n");
+		code.append("  	return test($);\n");
+		code.append("  }\n");
+		code.append("}\n");
+
+		int index = getCompletionIndex(code);
+		ICompilationUnit cu = getCompilationUnit(pkg, code, "ASTFile.java");
+
+		CompletionASTVistor visitor = getVisitedVistor(cu, index);
+
+		assertNotNull("Expected Type is null", visitor.getExpectedType());
+		assertTrue("Expected List as type",
+				"java.util.List".equals(visitor.getExpectedType().getFullyQualifiedName()));
+	}
+
 	private CompletionASTVistor getVisitedVistor(ICompilationUnit cu, int index) throws Exception {
 		IEditorPart editor = EditorUtility.openInEditor(cu);
 		ITextViewer viewer = new TextViewer(editor.getSite().getShell(), SWT.NONE);
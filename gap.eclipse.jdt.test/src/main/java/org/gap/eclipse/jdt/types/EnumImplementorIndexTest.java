@@ -0,0 +1,85 @@
+package org.gap.eclipse.jdt.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EnumImplementorIndexTest {
+
+	private IJavaProject project;
+	private IPackageFragment pkg;
+	private IType shape;
+	private EnumImplementorIndex index;
+
+	@Before
+	public void before() throws CoreException {
+		project = JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(project);
+		IPackageFragmentRoot javaSrc = JavaProjectHelper.addSourceContainer(project, "src");
+		pkg = javaSrc.createPackageFragment("enums.test", false, null);
+
+		shape = pkg.createCompilationUnit("Shape.java", "package enums.test;\npublic interface Shape {}\n", false, null)
+				.getType("Shape");
+		pkg.createCompilationUnit("Circle.java",
+				"package enums.test;\npublic enum Circle implements Shape { SMALL, LARGE }\n", false, null);
+
+		index = new EnumImplementorIndex(new EnumLiteralCache());
+		JavaCore.addElementChangedListener(index);
+	}
+
+	@After
+	public void after() throws CoreException {
+		JavaCore.removeElementChangedListener(index);
+		index.clear();
+		JavaProjectHelper.delete(project);
+	}
+
+	@Test
+	public void findImplementingEnums_BeforeAndAfterBuild() throws Exception {
+		Job.getJobManager().suspend();
+		try {
+			assertFalse(index.findImplementingEnums(shape, project).isPresent());
+		} finally {
+			Job.getJobManager().resume();
+		}
+
+		index.join(project);
+		assertEquals(Set.of("Circle"), implementors());
+	}
+
+	@Test
+	public void findImplementingEnums_AfterUnitsChanged() throws Exception {
+		index.prepare(project);
+		index.join(project);
+
+		pkg.createCompilationUnit("Square.java",
+				"package enums.test;\npublic enum Square implements Shape { SMALL }\n", false, null);
+		assertEquals(Set.of("Circle", "Square"), implementors());
+
+		pkg.getCompilationUnit("Circle.java").delete(true, null);
+		assertEquals(Set.of("Square"), implementors());
+
+		pkg.createCompilationUnit("Square.java", "package enums.test;\npublic enum Square { SMALL }\n", true, null);
+		assertEquals(Set.of(), implementors());
+	}
+
+	private Set<String> implementors() {
+		final Optional<Set<IType>> enums = index.findImplementingEnums(shape, project);
+		return enums.get().stream().map(IType::getElementName).collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,78 @@
+package org.gap.eclipse.jdt.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EnumLiteralCacheTest {
+
+	private IJavaProject project;
+	private IPackageFragment pkg;
+	private EnumLiteralCache cache;
+
+	@Before
+	public void before() throws CoreException {
+		project = JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(project);
+		IPackageFragmentRoot javaSrc = JavaProjectHelper.addSourceContainer(project, "src");
+		pkg = javaSrc.createPackageFragment("enums.test", false, null);
+
+		cache = new EnumLiteralCache();
+		JavaCore.addElementChangedListener(cache);
+	}
+
+	@After
+	public void after() throws CoreException {
+		JavaCore.removeElementChangedListener(cache);
+		JavaProjectHelper.delete(project);
+	}
+
+	@Test
+	public void get_BinaryEnum_KeepsTable() throws Exception {
+		IType state = project.findType("java.lang.Thread$State");
+		EnumLiteralTable table = cache.get(state);
+		// the stubs might not declare every literal.
+		assertFalse(names(table).isEmpty());
+		assertTrue(List.of("NEW", "RUNNABLE", "BLOCKED", "WAITING", "TIMED_WAITING", "TERMINATED")
+				.containsAll(names(table)));
+		assertSame(table, cache.get(state));
+	}
+
+	@Test
+	public void get_SourceEnum_DroppedWhenUnitChanges() throws Exception {
+		IType color = pkg.createCompilationUnit("Color.java", "package enums.test;\npublic enum Color { RED }\n", false,
+				null).getType("Color");
+		EnumLiteralTable table = cache.get(color);
+		assertEquals(List.of("RED"), names(table));
+		assertSame(table, cache.get(color));
+
+		pkg.createCompilationUnit("Color.java", "package enums.test;\npublic enum Color { RED, GREEN }\n", true, null);
+		EnumLiteralTable changed = cache.get(color);
+		assertNotSame(table, changed);
+		assertEquals(List.of("RED", "GREEN"), names(changed));
+	}
+
+	private static List<String> names(EnumLiteralTable table) {
+		final List<String> names = new ArrayList<>();
+		for (int i = 0; i < table.size(); i++) {
+			names.add(table.getName(i));
+		}
+		return names;
+	}
+}
@@ -0,0 +1,101 @@
+package org.gap.eclipse.jdt.types;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FunctionalDescriptorCacheTest {
+
+	private IJavaProject project;
+	private IPackageFragment pkg;
+	private IType mapper;
+	private IType plain;
+	private FunctionalDescriptorCache cache;
+	private final AtomicInteger loads = new AtomicInteger();
+	private final AtomicInteger resolves = new AtomicInteger();
+
+	@Before
+	public void before() throws CoreException {
+		project = JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(project);
+		IPackageFragmentRoot javaSrc = JavaProjectHelper.addSourceContainer(project, "src");
+		pkg = javaSrc.createPackageFragment("functional.test", false, null);
+
+		mapper = pkg.createCompilationUnit("Mapper.java",
+				"package functional.test;\npublic interface Mapper {\n  String map(int value);\n}\n", false, null)
+				.getType("Mapper");
+		plain = pkg.createCompilationUnit("Plain.java", "package functional.test;\npublic class Plain {}\n", false,
+				null).getType("Plain");
+
+		cache = new FunctionalDescriptorCache();
+		JavaCore.addElementChangedListener(cache);
+	}
+
+	@After
+	public void after() throws CoreException {
+		JavaCore.removeElementChangedListener(cache);
+		JavaProjectHelper.delete(project);
+	}
+
+	@Test
+	public void get_ByBinding_LoadsOnce() throws Exception {
+		ITypeBinding binding = (ITypeBinding) resolve(List.of(mapper)).get(0);
+		FunctionalDescriptor descriptor = cache.get(project, binding, this::load).get();
+		assertEquals("String", descriptor.getReturnTypeName());
+		assertEquals("int", descriptor.getParameterTypeName(0));
+
+		cache.get(project, binding, this::load);
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void get_ByType_CachesNonFunctionalTypes() throws Exception {
+		assertEquals(1, cache.get(project, List.of(mapper, plain), this::resolve, this::load).size());
+		assertEquals(1, cache.get(project, List.of(mapper, plain), this::resolve, this::load).size());
+		assertEquals(1, resolves.get());
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void get_ByType_DroppedWhenUnitChanges() throws Exception {
+		assertEquals("String",
+				cache.get(project, List.of(mapper), this::resolve, this::load).get(0).getReturnTypeName());
+
+		pkg.createCompilationUnit("Mapper.java",
+				"package functional.test;\npublic interface Mapper {\n  long map(int value);\n}\n", true, null);
+		assertEquals("long", cache.get(project, List.of(mapper), this::resolve, this::load).get(0).getReturnTypeName());
+		assertEquals(2, resolves.get());
+	}
+
+	private List<IBinding> resolve(Collection<IType> types) {
+		resolves.incrementAndGet();
+		ASTParser parser = ASTParser.newParser(AST.JLS13);
+		parser.setProject(project);
+		return Arrays.asList(parser.createBindings(types.toArray(new IJavaElement[0]), null));
+	}
+
+	private Optional<FunctionalDescriptor> load(ITypeBinding binding) {
+		loads.incrementAndGet();
+		return Optional.ofNullable(binding.getFunctionalInterfaceMethod()).map(FunctionalDescriptor::of);
+	}
+}
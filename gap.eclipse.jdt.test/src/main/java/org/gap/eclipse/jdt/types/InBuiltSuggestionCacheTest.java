@@ -0,0 +1,95 @@
+package org.gap.eclipse.jdt.types;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.gap.eclipse.jdt.CorePlugin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InBuiltSuggestionCacheTest {
+
+	private IJavaProject project;
+	private IPackageFragment pkg;
+	private IType helpers;
+	private MethodShapeCache methodShapeCache;
+	private InBuiltSuggestionCache cache;
+
+	@Before
+	public void before() throws CoreException {
+		project = JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(project);
+		IPackageFragmentRoot javaSrc = JavaProjectHelper.addSourceContainer(project, "src");
+		pkg = javaSrc.createPackageFragment("suggestions.test", false, null);
+
+		helpers = createUnit("Helpers", "  public static boolean isEmpty(String value) { return false; }\n");
+		createUnit("Other", "");
+
+		methodShapeCache = new MethodShapeCache();
+		cache = new InBuiltSuggestionCache(methodShapeCache);
+		JavaCore.addElementChangedListener(cache);
+		setSuggestions("suggestions.test.Helpers");
+	}
+
+	@After
+	public void after() throws CoreException {
+		JavaCore.removeElementChangedListener(cache);
+		CorePlugin.getDefault().getPreferenceStore().setToDefault(InBuiltSuggestion.PREF_METHOD_REFERENCE_TYPES);
+		JavaProjectHelper.delete(project);
+	}
+
+	@Test
+	public void getMethodReferenceTypes_ResolvesPreferredTypes() throws Exception {
+		List<IType> types = cache.getMethodReferenceTypes(project);
+		assertTrue(types.toString(), types.contains(helpers));
+		assertSame(types, cache.getMethodReferenceTypes(project));
+		// the method shapes of the resolved types are warmed up.
+		assertTrue(methodShapeCache.getFootprint() > 0);
+	}
+
+	@Test
+	public void getMethodReferenceTypes_DroppedOnlyForDeclaringUnits() throws Exception {
+		List<IType> types = cache.getMethodReferenceTypes(project);
+
+		createUnit("Other", "  public void other() {}\n");
+		assertSame(types, cache.getMethodReferenceTypes(project));
+
+		createUnit("Helpers", "  public static boolean isBlank(String value) { return false; }\n");
+		assertNotSame(types, cache.getMethodReferenceTypes(project));
+	}
+
+	@Test
+	public void getMethodReferenceTypes_DroppedWhenPreferenceChanges() throws Exception {
+		List<IType> types = cache.getMethodReferenceTypes(project);
+
+		setSuggestions("");
+		List<IType> changed = cache.getMethodReferenceTypes(project);
+		assertNotSame(types, changed);
+		assertFalse(changed.toString(), changed.contains(helpers));
+	}
+
+	private IType createUnit(String name, String members) throws CoreException {
+		return pkg.createCompilationUnit(name + ".java",
+				"package suggestions.test;\npublic class " + name + " {\n" + members + "}\n", true, null)
+				.getType(name);
+	}
+
+	private void setSuggestions(String value) {
+		CorePlugin.getDefault().getPreferenceStore().setValue(InBuiltSuggestion.PREF_METHOD_REFERENCE_TYPES, value);
+		cache.propertyChange(
+				new PropertyChangeEvent(this, InBuiltSuggestion.PREF_METHOD_REFERENCE_TYPES, null, value));
+	}
+}
@@ -0,0 +1,87 @@
+package org.gap.eclipse.jdt.types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MethodShapeCacheTest {
+
+	private IJavaProject project;
+	private IPackageFragment pkg;
+	private MethodShapeCache cache;
+	private FunctionalDescriptor descriptor;
+
+	@Before
+	public void before() throws CoreException {
+		project = JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(project);
+		IPackageFragmentRoot javaSrc = JavaProjectHelper.addSourceContainer(project, "src");
+		pkg = javaSrc.createPackageFragment("shapes.test", false, null);
+
+		IType mapper = pkg.createCompilationUnit("Mapper.java",
+				"package shapes.test;\npublic interface Mapper {\n  String map(int value);\n}\n", false, null)
+				.getType("Mapper");
+		ASTParser parser = ASTParser.newParser(AST.JLS13);
+		parser.setProject(project);
+		ITypeBinding binding = (ITypeBinding) parser.createBindings(new IJavaElement[] { mapper }, null)[0];
+		descriptor = FunctionalDescriptor.of(binding.getFunctionalInterfaceMethod());
+
+		cache = new MethodShapeCache();
+		JavaCore.addElementChangedListener(cache);
+	}
+
+	@After
+	public void after() throws CoreException {
+		JavaCore.removeElementChangedListener(cache);
+		JavaProjectHelper.delete(project);
+	}
+
+	@Test
+	public void get_FindsMethodsByShape() throws Exception {
+		IType converters = createConverters("  public static String name(int value) { return null; }\n"
+				+ "  public static long size(String value) { return 0; }\n");
+		MethodShapeIndex index = cache.get(converters);
+		assertEquals(Set.of("name"), names(index));
+		assertSame(index, cache.get(converters));
+	}
+
+	@Test
+	public void get_DroppedWhenUnitChanges() throws Exception {
+		IType converters = createConverters("  public static String name(int value) { return null; }\n");
+		MethodShapeIndex index = cache.get(converters);
+
+		createConverters("  public static String name(int value) { return null; }\n"
+				+ "  public static String label(int value) { return null; }\n");
+		MethodShapeIndex changed = cache.get(converters);
+		assertNotSame(index, changed);
+		assertEquals(Set.of("name", "label"), names(changed));
+	}
+
+	private IType createConverters(String methods) throws CoreException {
+		return pkg.createCompilationUnit("Converters.java",
+				"package shapes.test;\npublic class Converters {\n" + methods + "}\n", true, null)
+				.getType("Converters");
+	}
+
+	private Set<String> names(MethodShapeIndex index) {
+		return index.find(descriptor).stream().map(s -> s.getMethod().getElementName()).collect(Collectors.toSet());
+	}
+}